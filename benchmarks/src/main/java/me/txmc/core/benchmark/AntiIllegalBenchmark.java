@@ -0,0 +1,72 @@
+package me.txmc.core.benchmark;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import me.txmc.core.antiillegal.AntiIllegalMain;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs whole items through {@link AntiIllegalMain#checkFixItem(ItemStack, org.bukkit.event.Cancellable)}, with
+ * and without the clean item cache. One operation is one item.
+ *
+ * @author 0x15d3v2
+ * @since 2026/10/16 3:02 PM
+ * This file was created as a part of 8b8tCore
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AntiIllegalBenchmark {
+    @Param({"PLAIN_BLOCKS", "NETHERITE_GEAR", "BOOKS", "POTIONS", "NESTED_SHULKERS"})
+    public ItemCorpus corpus;
+    @Param({"true", "false"})
+    public boolean cache;
+
+    private AntiIllegalMain main;
+    private ItemStack[] items;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        MockBukkit.mock();
+        ConfigurationSection config = loadConfig();
+        config.set("CleanCache.Enabled", cache);
+        // Measures through server internals that the mock server doesn't have
+        config.set("DisabledChecks", List.of("ItemSizeCheck"));
+        main = new AntiIllegalMain(null);
+        main.compile(config);
+        items = corpus.build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Benchmark
+    public ItemStack checkFixItem() {
+        ItemStack item = items[index++ & (items.length - 1)];
+        main.checkFixItem(item, null);
+        return item;
+    }
+
+    /**
+     * @return The AntiIllegal section of the config.yml shipped with the plugin
+     */
+    static ConfigurationSection loadConfig() throws Exception {
+        try (Reader reader = new InputStreamReader(AntiIllegalBenchmark.class.getResourceAsStream("/config.yml"), StandardCharsets.UTF_8)) {
+            return YamlConfiguration.loadConfiguration(reader).getConfigurationSection("AntiIllegal");
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package me.txmc.core.benchmark;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import me.txmc.core.antiillegal.AntiIllegalMain;
+import me.txmc.core.antiillegal.check.Check;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static me.txmc.core.antiillegal.util.Utils.metaSnapshot;
+
+/**
+ * Runs a single {@link Check} against a corpus, the way the check chain calls it. One operation is one item.
+ *
+ * @author 0x15d3v2
+ * @since 2026/10/16 3:10 PM
+ * This file was created as a part of 8b8tCore
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CheckBenchmark {
+    @Param({"OverStackCheck", "DurabilityCheck", "AttributeCheck", "LoreCheck", "EnchantCheck",
+            "PotionCheck", "BookCheck", "IllegalItemCheck", "NameCheck"})
+    public String check;
+    @Param({"PLAIN_BLOCKS", "NETHERITE_GEAR", "BOOKS", "POTIONS", "NESTED_SHULKERS"})
+    public ItemCorpus corpus;
+
+    private Check target;
+    private ItemStack[] items;
+    private ItemMeta[] metas;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        MockBukkit.mock();
+        AntiIllegalMain main = new AntiIllegalMain(null);
+        main.compile(AntiIllegalBenchmark.loadConfig());
+        target = main.checks().stream()
+                .filter(c -> c.getClass().getSimpleName().equals(check))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown check " + check));
+        items = corpus.build();
+        metas = new ItemMeta[items.length];
+        for (int i = 0; i < items.length; i++) metas[i] = metaSnapshot(items[i]);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    /**
+     * Uses a meta snapshot taken up front so only the check itself is measured
+     */
+    @Benchmark
+    public boolean check() {
+        int i = index++ & (items.length - 1);
+        ItemStack item = items[i];
+        ItemMeta meta = metas[i];
+        return target.appliesTo(item.getType()) && target.shouldCheck(item, meta) && target.check(item, meta);
+    }
+
+    /**
+     * Includes taking the meta snapshot, which is what the chain pays once per item
+     */
+    @Benchmark
+    public void checkWithSnapshot(Blackhole blackhole) {
+        ItemStack item = items[index++ & (items.length - 1)];
+        ItemMeta meta = metaSnapshot(item);
+        blackhole.consume(target.appliesTo(item.getType()) && target.shouldCheck(item, meta) && target.check(item, meta));
+    }
+}
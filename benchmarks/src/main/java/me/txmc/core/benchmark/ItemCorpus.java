@@ -0,0 +1,134 @@
+package me.txmc.core.benchmark;
+
+import net.kyori.adventure.text.Component;
+import org.bukkit.Material;
+import org.bukkit.block.ShulkerBox;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.BlockStateMeta;
+import org.bukkit.inventory.meta.BookMeta;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.inventory.meta.PotionMeta;
+import org.bukkit.potion.PotionEffect;
+import org.bukkit.potion.PotionEffectType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Item sets the benchmarks run the checks against. Every item is legal so the checks never change
+ * them and each operation does the same work.
+ *
+ * <p>A server must be mocked before any corpus is built.</p>
+ *
+ * @author 0x15d3v2
+ * @since 2026/10/16 2:45 PM
+ * This file was created as a part of 8b8tCore
+ */
+public enum ItemCorpus {
+    PLAIN_BLOCKS(ItemCorpus::plainBlocks),
+    NETHERITE_GEAR(ItemCorpus::netheriteGear),
+    BOOKS(ItemCorpus::books),
+    POTIONS(ItemCorpus::potions),
+    NESTED_SHULKERS(ItemCorpus::nestedShulkers);
+
+    private static final int SIZE = 64;
+    private final Supplier<ItemStack[]> factory;
+
+    ItemCorpus(Supplier<ItemStack[]> factory) {
+        this.factory = factory;
+    }
+
+    public ItemStack[] build() {
+        return factory.get();
+    }
+
+    private static ItemStack[] plainBlocks() {
+        Material[] blocks = {Material.STONE, Material.OBSIDIAN, Material.COBBLESTONE, Material.OAK_PLANKS, Material.NETHERRACK, Material.GLASS};
+        ItemStack[] items = new ItemStack[SIZE];
+        for (int i = 0; i < SIZE; i++) items[i] = new ItemStack(blocks[i % blocks.length], 1 + i % 64);
+        return items;
+    }
+
+    private static ItemStack[] netheriteGear() {
+        Material[] gear = {Material.NETHERITE_SWORD, Material.NETHERITE_PICKAXE, Material.NETHERITE_HELMET,
+                Material.NETHERITE_CHESTPLATE, Material.NETHERITE_LEGGINGS, Material.NETHERITE_BOOTS};
+        ItemStack[] items = new ItemStack[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            ItemStack item = new ItemStack(gear[i % gear.length]);
+            for (Enchantment enchantment : Enchantment.values()) {
+                if (enchantment.isCursed() || !enchantment.canEnchantItem(item)) continue;
+                if (item.getEnchantments().keySet().stream().anyMatch(enchantment::conflictsWith)) continue;
+                item.addEnchantment(enchantment, enchantment.getMaxLevel());
+            }
+            ItemMeta meta = item.getItemMeta();
+            meta.displayName(Component.text("Gear " + i));
+            item.setItemMeta(meta);
+            items[i] = item;
+        }
+        return items;
+    }
+
+    private static ItemStack[] books() {
+        ItemStack[] items = new ItemStack[SIZE];
+        String text = "The quick brown fox jumps over the lazy dog. ".repeat(5);
+        for (int i = 0; i < SIZE; i++) {
+            ItemStack book = new ItemStack(Material.WRITTEN_BOOK);
+            BookMeta meta = (BookMeta) book.getItemMeta();
+            meta.setTitle("Book " + i);
+            meta.setAuthor("bench");
+            List<Component> pages = new ArrayList<>(100);
+            for (int page = 0; page < 100; page++) pages.add(Component.text(text + page));
+            meta.pages(pages);
+            book.setItemMeta(meta);
+            items[i] = book;
+        }
+        return items;
+    }
+
+    private static ItemStack[] potions() {
+        Material[] types = {Material.POTION, Material.SPLASH_POTION, Material.LINGERING_POTION, Material.TIPPED_ARROW};
+        PotionEffectType[] effects = {PotionEffectType.SPEED, PotionEffectType.INCREASE_DAMAGE, PotionEffectType.FIRE_RESISTANCE, PotionEffectType.REGENERATION};
+        ItemStack[] items = new ItemStack[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            ItemStack potion = new ItemStack(types[i % types.length]);
+            PotionMeta meta = (PotionMeta) potion.getItemMeta();
+            meta.addCustomEffect(new PotionEffect(effects[i % effects.length], 180 * 20, 1), true);
+            potion.setItemMeta(meta);
+            items[i] = potion;
+        }
+        return items;
+    }
+
+    /**
+     * Shulkers holding a full set of gear, books and a shulker that holds blocks
+     */
+    private static ItemStack[] nestedShulkers() {
+        ItemStack[] gear = netheriteGear();
+        ItemStack[] books = books();
+        ItemStack[] blocks = plainBlocks();
+        ItemStack[] items = new ItemStack[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            ItemStack inner = new ItemStack(Material.SHULKER_BOX);
+            fill(inner, blocks, 27);
+
+            ItemStack outer = new ItemStack(Material.SHULKER_BOX);
+            ItemStack[] contents = new ItemStack[27];
+            for (int slot = 0; slot < 13; slot++) contents[slot] = gear[(i + slot) % gear.length];
+            for (int slot = 13; slot < 26; slot++) contents[slot] = books[(i + slot) % books.length];
+            contents[26] = inner;
+            fill(outer, contents, 27);
+            items[i] = outer;
+        }
+        return items;
+    }
+
+    private static void fill(ItemStack shulker, ItemStack[] source, int slots) {
+        BlockStateMeta meta = (BlockStateMeta) shulker.getItemMeta();
+        ShulkerBox box = (ShulkerBox) meta.getBlockState();
+        for (int slot = 0; slot < slots; slot++) box.getInventory().setItem(slot, source[slot % source.length].clone());
+        meta.setBlockState(box);
+        shulker.setItemMeta(meta);
+    }
+}
@@ -0,0 +1,88 @@
+package me.txmc.core.benchmark;
+
+import me.txmc.core.util.GlobalUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the single pass legacy code translator with the regex and replace chain it replaced, and the
+ * component cache with parsing every time. One operation is one string.
+ *
+ * @author 0x15d3v2
+ * @since 2026/10/16 8:10 PM
+ * This file was created as a part of 8b8tCore
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslateBenchmark {
+    @Param({"PLAIN", "PREFIX", "TAB_FOOTER", "HEX"})
+    public Input input;
+
+    public enum Input {
+        PLAIN("Welcome to the server, have fun"),
+        PREFIX("&6[&18b&98t&cCore&6] &7>>&r &3Teleported to&r&a Steve"),
+        TAB_FOOTER("\n&7tps:&r 20.00 &7ping: &r42 &7players: &f128 &7uptime: &r1d 02h 03m 04s"),
+        HEX("&#FF5555Red &#55FF55Green &#5555FFBlue &lbold&r &ndone");
+
+        private final String text;
+
+        Input(String text) {
+            this.text = text;
+        }
+    }
+
+    @Benchmark
+    public String legacyConvert() {
+        return legacy(input.text);
+    }
+
+    @Benchmark
+    public String singlePassConvert() {
+        return GlobalUtils.convertToMiniMessageFormat(input.text);
+    }
+
+    @Benchmark
+    public Object translate() {
+        return GlobalUtils.translateChars(input.text);
+    }
+
+    @Benchmark
+    public Object translateCached() {
+        return GlobalUtils.translateCharsCached(input.text);
+    }
+
+    /**
+     * The implementation convertToMiniMessageFormat had before it was made single pass
+     */
+    private static String legacy(String input) {
+        input = input.replaceAll("&#([A-Fa-f0-9]{6})", "<#$1>");
+        input = input.replace("&l", "<bold>");
+        input = input.replace("&o", "<italic>");
+        input = input.replace("&n", "<underlined>");
+        input = input.replace("&m", "<strikethrough>");
+        input = input.replace("&k", "<obfuscated>");
+        input = input.replace("&r", "<reset>");
+        input = input.replace("&0", "<black>");
+        input = input.replace("&1", "<dark_blue>");
+        input = input.replace("&2", "<dark_green>");
+        input = input.replace("&3", "<dark_aqua>");
+        input = input.replace("&4", "<dark_red>");
+        input = input.replace("&5", "<dark_purple>");
+        input = input.replace("&6", "<gold>");
+        input = input.replace("&7", "<gray>");
+        input = input.replace("&8", "<dark_gray>");
+        input = input.replace("&9", "<blue>");
+        input = input.replace("&a", "<green>");
+        input = input.replace("&b", "<aqua>");
+        input = input.replace("&c", "<red>");
+        input = input.replace("&d", "<light_purple>");
+        input = input.replace("&e", "<yellow>");
+        input = input.replace("&f", "<white>");
+        return input;
+    }
+}
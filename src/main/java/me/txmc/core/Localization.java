@@ -1,13 +1,17 @@
 package me.txmc.core;
 
-import lombok.RequiredArgsConstructor;
 import me.txmc.core.util.GlobalUtils;
 import org.bukkit.configuration.Configuration;
 import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
 
 import java.io.File;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 
 /**
@@ -15,14 +19,35 @@ import java.util.logging.Level;
  * @since 2023/12/18 1:50 PM
  * This file was created as a part of 8b8tCore
  */
-@RequiredArgsConstructor
 public class Localization {
-    private static HashMap<String, Localization> localizationMap;
-    private final Configuration config;
+    private static volatile Map<String, Localization> localizationMap = Map.of();
+    private static final Map<UUID, Localization> sessions = new ConcurrentHashMap<>();
+    private final String prefix;
+    private final Map<String, String> strings;
+    private final Map<String, List<String>> lists;
+    private final Map<String, LocalizedMessage> messages = new ConcurrentHashMap<>();
+    private final Map<String, LocalizedMessage> prefixedMessages = new ConcurrentHashMap<>();
+
+    /**
+     * Reads every value of the file once, %prefix% is replaced up front
+     */
+    private Localization(Configuration config) {
+        prefix = config.getString("prefix", "&6[8b8tCore]");
+        Map<String, String> strings = new HashMap<>();
+        Map<String, List<String>> lists = new HashMap<>();
+        for (String key : config.getKeys(true)) {
+            if (config.isList(key)) {
+                lists.put(key, config.getStringList(key).stream().map(s -> s.replace("%prefix%", prefix)).toList());
+            } else if (!config.isConfigurationSection(key)) {
+                strings.put(key, String.valueOf(config.get(key)).replace("%prefix%", prefix));
+            }
+        }
+        this.strings = Map.copyOf(strings);
+        this.lists = Map.copyOf(lists);
+    }
 
     protected static void loadLocalizations(File dataFolder) {
-        if (localizationMap != null) localizationMap.clear();
-        localizationMap = new HashMap<>();
+        Map<String, Localization> localizationMap = new HashMap<>();
         File localeDir = new File(dataFolder, "Localization");
 
         if (!localeDir.exists()) {
@@ -57,27 +82,65 @@ public class Localization {
                 localizationMap.put(ymlFile.getName().replace(".yml", ""), new Localization(config));
             }
         }
+        Localization.localizationMap = Map.copyOf(localizationMap);
+        sessions.clear();
     }
 
     public static Localization getLocalization(String locale) {
-        if (localizationMap.containsKey(locale)) return localizationMap.get(locale);
-        String first = locale.split("_")[0];
-        if (localizationMap.containsKey(first)) return localizationMap.get(first);
+        Map<String, Localization> localizationMap = Localization.localizationMap;
+        Localization localization = localizationMap.get(locale);
+        if (localization != null) return localization;
+        int separator = locale.indexOf('_');
+        if (separator >= 0 && (localization = localizationMap.get(locale.substring(0, separator))) != null) return localization;
         return localizationMap.get("en");
     }
 
+    /**
+     * @return The localization of the player's locale, resolved once per session
+     */
+    public static Localization of(Player player) {
+        Localization localization = sessions.get(player.getUniqueId());
+        if (localization == null) {
+            localization = getLocalization(player.locale().getLanguage());
+            if (player.isOnline()) sessions.put(player.getUniqueId(), localization);
+        }
+        return localization;
+    }
+
+    /**
+     * Re-resolves the player's localization when their client reports a new locale
+     */
+    public static void update(Player player, Locale locale) {
+        if (player.isOnline()) sessions.put(player.getUniqueId(), getLocalization(locale.getLanguage()));
+    }
+
+    /**
+     * Forgets the localization resolved for the player once they leave
+     */
+    public static void forget(Player player) {
+        sessions.remove(player.getUniqueId());
+    }
+
     public String getPrefix() {
-        return config.getString("prefix", "&6[8b8tCore]");
+        return prefix;
     }
 
     public String get(String key) {
-        return config.getString(key, String.format("Unknown key %s", key))
-                .replace("%prefix%", getPrefix());
+        String value = strings.get(key);
+        return value != null ? value : String.format("Unknown key %s", key);
     }
 
     public List<String> getStringList(String key) {
-        return config.getStringList(key).stream()
-                .map(s -> s.replace("%prefix%", getPrefix()))
-                .toList();
+        return lists.getOrDefault(key, List.of());
+    }
+
+    /**
+     * @param prefixed Whether the plugin prefix should be put in front of the message
+     * @return The message parsed once into a template that the arguments are filled into
+     */
+    public LocalizedMessage getMessage(String key, boolean prefixed) {
+        // The prefix is configurable, so it is never part of the format
+        if (prefixed) return prefixedMessages.computeIfAbsent(key, k -> new LocalizedMessage(get(k), GlobalUtils.translateCharsCached(GlobalUtils.getPREFIX().concat(" &r&7>>&r "))));
+        return messages.computeIfAbsent(key, k -> new LocalizedMessage(get(k), null));
     }
 }
@@ -0,0 +1,27 @@
+package me.txmc.core;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerLocaleChangeEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Drops the localization cached for a player's session once it may no longer be valid.
+ *
+ * @author 0x15d3v2
+ * @since 2026/10/16 8:45 PM
+ * This file was created as a part of 8b8tCore
+ */
+public class LocalizationListener implements Listener {
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onLocaleChange(PlayerLocaleChangeEvent event) {
+        Localization.update(event.getPlayer(), event.locale());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        Localization.forget(event.getPlayer());
+    }
+}
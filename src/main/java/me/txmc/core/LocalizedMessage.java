@@ -0,0 +1,117 @@
+package me.txmc.core;
+
+import me.txmc.core.util.ComponentTemplate;
+import me.txmc.core.util.GlobalUtils;
+import net.kyori.adventure.text.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A localized message with {@link String#format(String, Object...)} arguments, parsed once into a component
+ * template with a slot for every argument.
+ *
+ * <p>Rendering only formats the arguments. Arguments that contain markup of their own, and messages whose
+ * arguments end up somewhere a slot can't go such as a hover event, are formatted into the text and parsed
+ * as a whole like before so the result is always the same.</p>
+ *
+ * @author 0x15d3v2
+ * @since 2026/10/16 8:30 PM
+ * This file was created as a part of 8b8tCore
+ */
+public class LocalizedMessage {
+    private static final Pattern SPECIFIER = Pattern.compile("%(\\d+\\$)?([-#+ 0,(<]*)?(\\d+)?(\\.\\d+)?([tT])?([a-zA-Z%])");
+    private final String format;
+    private final Component prefix;
+    private final ComponentTemplate template;
+    /**
+     * The argument index and format of every slot, a null format means the argument is used as is
+     */
+    private final int[] argIndexes;
+    private final String[] argFormats;
+
+    /**
+     * @param prefix Put in front of every rendered message or null for none
+     */
+    public LocalizedMessage(String format, Component prefix) {
+        this.format = format;
+        this.prefix = prefix;
+        List<Integer> indexes = new ArrayList<>();
+        List<String> formats = new ArrayList<>();
+        StringBuilder source = new StringBuilder(format.length());
+        Matcher matcher = SPECIFIER.matcher(format);
+        int last = 0;
+        int sequential = 0;
+        boolean supported = true;
+        while (matcher.find()) {
+            source.append(format, last, matcher.start());
+            last = matcher.end();
+            char conversion = matcher.group(6).charAt(0);
+            if (conversion == '%') {
+                source.append('%');
+                continue;
+            }
+            if (conversion == 'n') {
+                source.append('\n');
+                continue;
+            }
+            String flags = matcher.group(2) == null ? "" : matcher.group(2);
+            if (flags.contains("<") || indexes.size() >= 256) {
+                supported = false;
+                break;
+            }
+            int index = matcher.group(1) != null ? Integer.parseInt(matcher.group(1).substring(0, matcher.group(1).length() - 1)) - 1 : sequential++;
+            String spec = matcher.group(0).replace(matcher.group(1) == null ? "" : matcher.group(1), "");
+            source.append(ComponentTemplate.marker(indexes.size()));
+            indexes.add(index);
+            formats.add(spec.equals("%s") ? null : spec);
+        }
+        source.append(format, last, format.length());
+
+        ComponentTemplate compiled = null;
+        if (supported) {
+            try {
+                compiled = new ComponentTemplate(GlobalUtils.translateChars(source.toString()));
+                // Every slot has to be in the text, otherwise render the old way
+                if (compiled.slotCount() != indexes.size()) compiled = null;
+            } catch (RuntimeException e) {
+                compiled = null;
+            }
+        }
+        template = compiled;
+        argIndexes = indexes.stream().mapToInt(Integer::intValue).toArray();
+        argFormats = formats.toArray(String[]::new);
+    }
+
+    public Component render(Object... args) {
+        Component message = renderMessage(args);
+        return prefix == null ? message : Component.textOfChildren(prefix, message);
+    }
+
+    private Component renderMessage(Object... args) {
+        if (template == null) return slowRender(args);
+        Component[] values = new Component[argIndexes.length];
+        for (int slot = 0; slot < values.length; slot++) {
+            int index = argIndexes[slot];
+            if (index >= args.length) return slowRender(args);
+            String value = argFormats[slot] == null ? String.valueOf(args[index]) : String.format(argFormats[slot], args[index]);
+            if (hasMarkup(value)) return slowRender(args);
+            values[slot] = Component.text(value);
+        }
+        return template.render(values);
+    }
+
+    private Component slowRender(Object... args) {
+        return GlobalUtils.translateChars(String.format(format, args));
+    }
+
+    private static boolean hasMarkup(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '&' || c == '<' || c == '\\') return true;
+        }
+        return false;
+    }
+}
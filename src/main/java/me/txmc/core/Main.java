@@ -16,6 +16,7 @@ import me.txmc.core.dupe.SalC1Dupe;
 import me.txmc.core.home.HomeManager;
 import me.txmc.core.patch.PatchSection;
 import me.txmc.core.tablist.TabSection;
+import me.txmc.core.telemetry.RegionTelemetry;
 import me.txmc.core.util.MapCreationLogger;
 import me.txmc.core.tpa.TPASection;
 import me.txmc.core.vote.VoteSection;
@@ -49,6 +50,7 @@ public class Main extends JavaPlugin {
     private List<ViolationManager> violationManagers;
     public DupeManager dupeManager = new DupeManager(this);
     @Getter private long startTime;
+    @Getter private RegionTelemetry regionTelemetry;
     public final Map<Player, Location> lastLocations = new HashMap<>();
 
     @Override
@@ -70,14 +72,17 @@ public class Main extends JavaPlugin {
         violationManagers = new ArrayList<>();
         instance = this;
         executorService = Executors.newScheduledThreadPool(4);
+        regionTelemetry = new RegionTelemetry(this);
+        regionTelemetry.start();
         dupeManager.loadNonDupeableItems();
         startTime = System.currentTimeMillis();
         prefix = getConfig().getString("PluginMessagePrefix", "&6[&18b&98t&cCore&6]");
         saveDefaultConfig();
         getLogger().addHandler(new LoggerHandler());
         Localization.loadLocalizations(getDataFolder());
+        register(new LocalizationListener());
 
-        executorService.scheduleAtFixedRate(() -> violationManagers.forEach(ViolationManager::decrementAll), 0, 1, TimeUnit.SECONDS);
+        executorService.scheduleAtFixedRate(() -> violationManagers.forEach(ViolationManager::expireIdle), ViolationManager.GENERATION_SECONDS, ViolationManager.GENERATION_SECONDS, TimeUnit.SECONDS);
         getExecutorService().scheduleAtFixedRate(new AnnouncementTask(), 10L, getConfig().getInt("AnnouncementInterval"), TimeUnit.SECONDS);
 
         register(new TabSection(this));
@@ -110,6 +115,7 @@ public class Main extends JavaPlugin {
     @Override
     public void onDisable() {
         HandlerList.unregisterAll(this);
+        if (regionTelemetry != null) regionTelemetry.stop();
         violationManagers.clear();
         sections.forEach(Section::disable);
         sections.clear();
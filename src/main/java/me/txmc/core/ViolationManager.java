@@ -3,15 +3,31 @@ package me.txmc.core;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
+ * Tracks violations by any key. Violations decay by a fixed amount every second.
+ *
+ * <p>Instead of sweeping every entry each second an entry stores its value together with the second it was
+ * last updated, and the decay is applied when the entry is read or incremented. Entries live in two
+ * generations, everything touched since the last {@link #expireIdle()} is in the current one. Expiring drops
+ * the previous generation in bulk, so the work done scales with how many entries are active rather than
+ * how many there are.</p>
+ *
  * @author 254n_m
  * @since 2024/01/26 4:28 PM
  * This file was created as a part of 8b8tCore
  */
 public class ViolationManager {
-    private final ConcurrentHashMap<Object, Integer> map;
+    /**
+     * How often {@link #expireIdle()} should be called
+     */
+    public static final int GENERATION_SECONDS = 60;
+    private static final long EPOCH = System.nanoTime();
     private final int addAmount;
     private final int removeAmount;
     protected final Main plugin;
+    /**
+     * Both generations are swapped together so a reader never pairs a current map with a dropped previous one
+     */
+    private volatile Generations generations = new Generations(new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
 
     public ViolationManager(int addAmount, Main main) {
         this(addAmount, addAmount, main);
@@ -20,31 +36,84 @@ public class ViolationManager {
     public ViolationManager(int addAmount, int removeAmount, Main main) {
         this.addAmount = addAmount;
         this.removeAmount = removeAmount;
-        map = new ConcurrentHashMap<>();
         plugin = main;
         main.register(this);
     }
 
-    public void decrementAll() {
-        map.forEach((key, val) -> {
-            if (val <= removeAmount) {
-                map.remove(key);
-                return;
-            }
-            map.replace(key, val - removeAmount);
+    /**
+     * Starts a new generation and drops the entries that have not been touched for a whole generation and
+     * have decayed to nothing
+     */
+    public void expireIdle() {
+        Generations old = generations;
+        generations = new Generations(new ConcurrentHashMap<>(), old.current);
+        int now = now();
+        // Entries taken out of the expired map by a concurrent increment are already in old.current
+        old.previous.forEach((key, entry) -> {
+            if (decayed(entry.state, now) > 0) old.current.putIfAbsent(key, entry);
         });
     }
 
     public void increment(Object obj) {
-        map.putIfAbsent(obj, 0);
-        map.computeIfPresent(obj, (o, vls) -> vls + addAmount);
+        int now = now();
+        Generations generations = this.generations;
+        generations.current.compute(obj, (key, entry) -> {
+            if (entry == null) entry = generations.previous.remove(key);
+            if (entry == null) entry = new Entry();
+            entry.state = incremented(entry.state, now);
+            return entry;
+        });
     }
 
+    /**
+     * @return The current violation level or -1 if there is none
+     */
     public int getVLS(Object obj) {
-        return map.getOrDefault(obj, -1);
+        Generations generations = this.generations;
+        Entry entry = generations.current.get(obj);
+        if (entry == null) entry = generations.previous.get(obj);
+        if (entry == null) return -1;
+        int value = decayed(entry.state, now());
+        return value == 0 ? -1 : value;
     }
 
     public void remove(Object obj) {
-        map.remove(obj);
+        Generations generations = this.generations;
+        generations.current.remove(obj);
+        generations.previous.remove(obj);
+    }
+
+    private static int now() {
+        return (int) ((System.nanoTime() - EPOCH) / 1_000_000_000L);
+    }
+
+    /**
+     * @return The value and the second it was last updated packed into one long, never 0
+     */
+    private static long pack(int value, int second) {
+        return (long) value << 32 | second & 0xFFFFFFFFL;
+    }
+
+    /**
+     * @return The value of a packed entry after the decay since it was last updated, 0 if nothing is left
+     */
+    private int decayed(long state, int now) {
+        if (state == 0) return 0;
+        long value = (state >>> 32) - (long) removeAmount * (now - (int) state);
+        return value <= 0 ? 0 : (int) value;
+    }
+
+    /**
+     * @return The packed entry after adding {@link #addAmount} to what is left of the given entry
+     */
+    private long incremented(long state, int now) {
+        return pack((int) Math.min(Integer.MAX_VALUE, (long) decayed(state, now) + addAmount), now);
+    }
+
+    private record Generations(ConcurrentHashMap<Object, Entry> current, ConcurrentHashMap<Object, Entry> previous) {
+    }
+
+    private static class Entry {
+        private volatile long state;
     }
 }
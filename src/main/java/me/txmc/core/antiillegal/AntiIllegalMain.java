@@ -6,19 +6,31 @@ import lombok.experimental.Accessors;
 import me.txmc.core.Main;
 import me.txmc.core.Section;
 import me.txmc.core.antiillegal.check.Check;
+import me.txmc.core.antiillegal.check.CheckPlan;
 import me.txmc.core.antiillegal.check.checks.*;
+import me.txmc.core.antiillegal.command.AntiIllegalCommand;
 import me.txmc.core.antiillegal.listeners.*;
+import me.txmc.core.antiillegal.metrics.AntiIllegalMetrics;
+import me.txmc.core.antiillegal.metrics.Counters;
+import me.txmc.core.antiillegal.metrics.Source;
+import me.txmc.core.antiillegal.offline.OfflineScanService;
+import me.txmc.core.antiillegal.offline.PendingBlockFixes;
 import me.txmc.core.util.GlobalUtils;
 import org.bukkit.Material;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.event.Cancellable;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.BlockStateMeta;
+import org.bukkit.inventory.meta.ItemMeta;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
+import static me.txmc.core.antiillegal.util.Utils.metaSnapshot;
+
 /**
  * @author 254n_m
  * @since 2023/12/17 9:44 PM
@@ -29,38 +41,41 @@ import java.util.logging.Level;
 @Accessors(fluent = true)
 public class AntiIllegalMain implements Section {
     private final Main plugin;
-    private final List<Check> checks = new ArrayList<>(Arrays.asList(
-            new OverStackCheck(),
-            new DurabilityCheck(),
-            new AttributeCheck(),
-            new LoreCheck(),
-            new EnchantCheck(),
-            new PotionCheck(),
-            new BookCheck(),
-            new IllegalItemCheck()
-    ));
-
+    private final AntiIllegalMetrics metrics = new AntiIllegalMetrics();
+    private final PendingBlockFixes pendingFixes = new PendingBlockFixes();
+    private final OfflineScanService offlineScans = new OfflineScanService(this);
+    private List<Check> checks;
+    private volatile CheckPlan plan;
+    private volatile CleanItemCache cleanCache;
+    private volatile ContainerVisitor containerVisitor;
     private ConfigurationSection config;
+    private IllegalBlocksCleaner blocksCleaner;
+    private ScheduledFuture<?> summaryTask;
 
     @Override
     public void enable() {
-
         config = plugin.getSectionConfig(this);
-        checks.add(new NameCheck(config));
-//        checks.add(new ItemSizeCheck());
+        compile(config);
 
         plugin.register(new PlayerListeners(this), new MiscListeners(this), new InventoryListeners(this), new AttackListener(), new StackedTotemsListener());
-        if(plugin.getConfig().getBoolean("AntiIllegal.EnableIllegalBlocksCleaner", true)) plugin.register(new IllegalBlocksCleaner());
+        boolean cleanerEnabled = plugin.getConfig().getBoolean("AntiIllegal.EnableIllegalBlocksCleaner", true);
+        blocksCleaner = new IllegalBlocksCleaner(plugin, pendingFixes, cleanerEnabled, config.getInt("IllegalBlocksCleanerThreads", 2));
+        plugin.register(blocksCleaner);
+        plugin.getCommand("antiillegal").setExecutor(new AntiIllegalCommand(this));
+        scheduleSummary();
     }
 
     @Override
     public void disable() {
-
+        if (blocksCleaner != null) blocksCleaner.shutdown();
+        if (summaryTask != null) summaryTask.cancel(false);
     }
 
     @Override
     public void reloadConfig() {
         config = plugin.getSectionConfig(this);
+        compile(config);
+        scheduleSummary();
     }
 
     @Override
@@ -68,17 +83,105 @@ public class AntiIllegalMain implements Section {
         return "AntiIllegal";
     }
 
+    /**
+     * Builds the check chain from the given config and compiles it into a {@link CheckPlan}
+     * @param config The AntiIllegal section of the config
+     */
+    public void compile(ConfigurationSection config) {
+        List<Check> checks = new ArrayList<>(List.of(
+                new OverStackCheck(),
+                new DurabilityCheck(),
+                new AttributeCheck(),
+                new LoreCheck(),
+                new EnchantCheck(),
+                new PotionCheck(),
+                new BookCheck(config),
+                new IllegalItemCheck(config),
+                new NameCheck(config)
+        ));
+        if (ItemSizeCheck.isEnabled(config)) checks.add(new ItemSizeCheck(config));
+        List<String> disabled = config.getStringList("DisabledChecks");
+        checks.removeIf(check -> disabled.contains(check.getClass().getSimpleName()));
+        this.checks = checks;
+        plan = new CheckPlan(checks);
+        cleanCache = config.getBoolean("CleanCache.Enabled", true) ? new CleanItemCache(config.getInt("CleanCache.MaxSize", 8192)) : null;
+        pendingFixes.maxChunks(config.getInt("OfflineScan.MaxPendingChunks", 100000));
+        containerVisitor = config.getBoolean("Containers.Enabled", true) ? new ContainerVisitor(this, config.getInt("Containers.MaxDepth", 2), config.getInt("Containers.MaxItems", 1024)) : null;
+    }
+
     public void checkFixItem(ItemStack item, Cancellable cancellable) {
+        checkFixItem(item, cancellable, Source.OTHER);
+    }
+
+    public void checkFixItem(ItemStack item, Cancellable cancellable, Source source) {
         if (item == null || item.getType() == Material.AIR) return;
-        for (Check check : checks) {
-            if (check.shouldCheck(item) && check.check(item)) {
-                if (cancellable != null && !cancellable.isCancelled()) cancellable.setCancelled(true);
-                //GlobalUtils.log(Level.INFO, "Item %s failed the %s check and has been fixed.", getItemName(item), check.getClass().getSimpleName());
-                check.fix(item);
-                item.setItemMeta(item.getItemMeta());
-            }
+        long start = System.nanoTime();
+        boolean fixed = checkFix(item, cancellable, null, source == Source.DROP);
+        metrics.source(source).record(fixed, System.nanoTime() - start);
+    }
+
+    boolean checkFix(ItemStack item, Cancellable cancellable, ContainerVisitor.Budget budget) {
+        return checkFix(item, cancellable, budget, false);
+    }
+
+    /**
+     * @param budget The container budget when the item is inside a container, otherwise null
+     * @param logFixes Whether every failed check should be logged, dropped items are the only record of illegals
+     *                 leaving an inventory
+     * @return true if the item was changed
+     */
+    boolean checkFix(ItemStack item, Cancellable cancellable, ContainerVisitor.Budget budget, boolean logFixes) {
+        if (item == null || item.getType() == Material.AIR) return false;
+        Check[] chain = plan.checksFor(item.getType());
+        ItemMeta meta = metaSnapshot(item);
+
+        // Items without meta are cheap to check and would only crowd the cache
+        CleanItemCache cache = meta == null ? null : cleanCache;
+        CleanItemCache.Fingerprint fingerprint = null;
+        if (cache != null) {
+            fingerprint = cache.fingerprint(item, meta);
+            if (cache.isKnownClean(fingerprint, item)) return false;
+        }
+
+        boolean fixed = false;
+        for (Check check : chain) {
+            if (!check.shouldCheck(item, meta)) continue;
+            Counters counters = metrics.check(check);
+            long start = System.nanoTime();
+            boolean failed = check.check(item, meta);
+            counters.record(failed, System.nanoTime() - start);
+            if (!failed) continue;
+            if (cancellable != null && !cancellable.isCancelled()) cancellable.setCancelled(true);
+            //GlobalUtils.log(Level.INFO, "Item %s failed the %s check and has been fixed.", getItemName(item), check.getClass().getSimpleName());
+            if (logFixes) GlobalUtils.log(Level.INFO, "Item %s failed the %s check and has been fixed.", item, check.getClass().getSimpleName());
+            start = System.nanoTime();
+            check.fix(item);
+            counters.fixed(System.nanoTime() - start);
+            fixed = true;
+            if (item.getAmount() <= 0 || item.getType().isAir()) return true;
+            meta = metaSnapshot(item);
+        }
+
+        ContainerVisitor visitor = containerVisitor;
+        if (visitor != null && meta instanceof BlockStateMeta blockStateMeta) {
+            fixed |= visitor.visit(item, blockStateMeta, cancellable, budget);
         }
+        if (!fixed && cache != null) cache.markClean(fingerprint, item);
+        return fixed;
     }
+
+    private void scheduleSummary() {
+        if (summaryTask != null) summaryTask.cancel(false);
+        int interval = config.getInt("Metrics.SummaryInterval", 0);
+        summaryTask = interval > 0 ? plugin.getExecutorService().scheduleAtFixedRate(this::logSummary, interval, interval, TimeUnit.SECONDS) : null;
+    }
+
+    private void logSummary() {
+        GlobalUtils.log(Level.INFO, "Anti-illegal metrics for the last %d seconds", (System.currentTimeMillis() - metrics.since()) / 1000);
+        for (String line : metrics.describeChecks(5)) GlobalUtils.log(Level.INFO, "%s", line);
+        for (String line : metrics.describeSources()) GlobalUtils.log(Level.INFO, "%s", line);
+    }
+
     private String getItemName(ItemStack itemStack) {
         return (itemStack.hasItemMeta() && itemStack.getItemMeta().hasDisplayName()) ? GlobalUtils.getStringContent(itemStack.getItemMeta().displayName()) : itemStack.getType().name();
     }
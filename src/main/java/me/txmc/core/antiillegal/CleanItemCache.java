@@ -0,0 +1,70 @@
+package me.txmc.core.antiillegal;
+
+import me.txmc.core.util.LruCache;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remembers items that already passed every check so identical stacks are not checked again.
+ *
+ * <p>Entries are keyed by a cheap fingerprint of the item. Because a fingerprint can collide,
+ * a hit is only trusted when the cached copy is also similar to the item being checked.</p>
+ *
+ * @author 0x15d3v2
+ * @since 2026/10/16 11:32 AM
+ * This file was created as a part of 8b8tCore
+ */
+public class CleanItemCache {
+    private final LruCache<Fingerprint, ItemStack> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CleanItemCache(int maxSize) {
+        cache = new LruCache<>(maxSize);
+    }
+
+    /**
+     * @param item The item in question
+     * @param meta The meta snapshot of the item
+     * @return The fingerprint to look the item up with
+     */
+    public Fingerprint fingerprint(ItemStack item, ItemMeta meta) {
+        return new Fingerprint(item.getType(), item.getAmount(), meta == null ? 0 : meta.hashCode());
+    }
+
+    public boolean isKnownClean(Fingerprint fingerprint, ItemStack item) {
+        ItemStack clean = cache.get(fingerprint);
+        if (clean != null && clean.getAmount() == item.getAmount() && clean.isSimilar(item)) {
+            hits.increment();
+            return true;
+        }
+        misses.increment();
+        return false;
+    }
+
+    public void markClean(Fingerprint fingerprint, ItemStack item) {
+        cache.put(fingerprint, item.clone());
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public record Fingerprint(Material type, int amount, int metaHash) {
+    }
+}
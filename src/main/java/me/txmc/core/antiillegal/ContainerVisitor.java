@@ -0,0 +1,82 @@
+package me.txmc.core.antiillegal;
+
+import lombok.RequiredArgsConstructor;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.Container;
+import org.bukkit.event.Cancellable;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.BlockStateMeta;
+
+/**
+ * Runs the check chain on the contents of container items such as shulker boxes.
+ *
+ * <p>Nested containers are followed up to a maximum depth and every top level item has a budget
+ * of contained items it may hold in total. Contents past either limit are removed. The block state
+ * is only written back to the item when something inside it was actually changed.</p>
+ *
+ * @author 0x15d3v2
+ * @since 2026/10/16 1:10 PM
+ * This file was created as a part of 8b8tCore
+ */
+@RequiredArgsConstructor
+public class ContainerVisitor {
+    private final AntiIllegalMain main;
+    private final int maxDepth;
+    private final int maxItems;
+
+    /**
+     * @param item The container item
+     * @param meta The meta snapshot of the item, written back to the item if the contents change
+     * @param cancellable The event to cancel if an illegal item is found, may be null
+     * @param budget The budget of the top level item or null if this item is the top level item
+     * @return true if the contents of the container were changed
+     */
+    boolean visit(ItemStack item, BlockStateMeta meta, Cancellable cancellable, Budget budget) {
+        if (!meta.hasBlockState()) return false;
+        BlockState state = meta.getBlockState();
+        if (!(state instanceof Container container)) return false;
+        if (budget == null) budget = new Budget(maxItems);
+
+        Inventory inventory = container.getSnapshotInventory();
+        boolean changed = false;
+        if (budget.depth >= maxDepth) {
+            if (!inventory.isEmpty()) {
+                inventory.clear();
+                changed = true;
+            }
+        } else {
+            budget.depth++;
+            ItemStack[] contents = inventory.getContents();
+            for (int slot = 0; slot < contents.length; slot++) {
+                ItemStack content = contents[slot];
+                if (content == null || content.getType().isAir()) continue;
+                if (--budget.remaining < 0) {
+                    inventory.clear(slot);
+                    changed = true;
+                    continue;
+                }
+                if (main.checkFix(content, cancellable, budget)) {
+                    inventory.setItem(slot, content.getAmount() > 0 ? content : null);
+                    changed = true;
+                }
+            }
+            budget.depth--;
+        }
+
+        if (changed) {
+            meta.setBlockState(state);
+            item.setItemMeta(meta);
+        }
+        return changed;
+    }
+
+    static class Budget {
+        private int remaining;
+        private int depth;
+
+        private Budget(int remaining) {
+            this.remaining = remaining;
+        }
+    }
+}
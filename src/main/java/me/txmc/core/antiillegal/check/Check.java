@@ -1,6 +1,8 @@
 package me.txmc.core.antiillegal.check;
 
+import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
 
 /**
  * @author 254n_m
@@ -23,15 +25,26 @@ public interface Check {
 
     /**
      * @param item The item to be checked
+     * @param meta Snapshot of the items meta shared between all checks, null if the item has no meta. Must not be modified
      * @return Returns true if item is invalid otherwise false
      */
-    boolean check(ItemStack item);
+    boolean check(ItemStack item, ItemMeta meta);
 
     /**
-     * @param item The material in question
-     * @return true if this check should check this material otherwise false
+     * @param item The item in question
+     * @param meta Snapshot of the items meta shared between all checks, null if the item has no meta. Must not be modified
+     * @return true if this check should check this item otherwise false
      */
-    boolean shouldCheck(ItemStack item);
+    boolean shouldCheck(ItemStack item, ItemMeta meta);
 
     void fix(ItemStack item);
+
+    /**
+     * Used when compiling the {@link CheckPlan}
+     * @param material The material in question
+     * @return false if this check can never fail for the material, so it can be left out of that materials chain
+     */
+    default boolean appliesTo(Material material) {
+        return true;
+    }
 }
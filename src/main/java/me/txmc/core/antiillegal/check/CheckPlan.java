@@ -0,0 +1,41 @@
+package me.txmc.core.antiillegal.check;
+
+import org.bukkit.Material;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable lookup of which checks can apply to each {@link Material}.
+ *
+ * <p>Built once when the AntiIllegal section is enabled or reloaded so the hot path
+ * only has to index an array by the materials ordinal instead of asking every check.</p>
+ *
+ * @author 0x15d3v2
+ * @since 2026/10/16 10:05 AM
+ * This file was created as a part of 8b8tCore
+ */
+public class CheckPlan {
+    private static final Check[] NONE = new Check[0];
+    private final Check[][] byMaterial;
+
+    public CheckPlan(List<Check> checks) {
+        Material[] materials = Material.values();
+        byMaterial = new Check[materials.length][];
+        for (Material material : materials) {
+            List<Check> buf = new ArrayList<>();
+            for (Check check : checks) {
+                if (check.appliesTo(material)) buf.add(check);
+            }
+            byMaterial[material.ordinal()] = buf.isEmpty() ? NONE : buf.toArray(Check[]::new);
+        }
+    }
+
+    /**
+     * @param material The material in question
+     * @return The checks that apply to the material in the order they were registered. Must not be modified
+     */
+    public Check[] checksFor(Material material) {
+        return byMaterial[material.ordinal()];
+    }
+}
@@ -11,14 +11,14 @@ import org.bukkit.inventory.meta.ItemMeta;
  */
 public class AttributeCheck implements Check {
     @Override
-    public boolean check(ItemStack item) {
-        if (!item.hasItemMeta()) return false;
-        return item.getItemMeta().hasAttributeModifiers() || !item.getItemMeta().getItemFlags().isEmpty();
+    public boolean check(ItemStack item, ItemMeta meta) {
+        if (meta == null) return false;
+        return meta.hasAttributeModifiers() || !meta.getItemFlags().isEmpty();
     }
 
     @Override
-    public boolean shouldCheck(ItemStack item) {
-        return true;
+    public boolean shouldCheck(ItemStack item, ItemMeta meta) {
+        return meta != null;
     }
 
     @Override
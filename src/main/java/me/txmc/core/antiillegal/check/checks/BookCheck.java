@@ -2,75 +2,150 @@ package me.txmc.core.antiillegal.check.checks;
 
 import me.txmc.core.antiillegal.check.Check;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.KeybindComponent;
+import net.kyori.adventure.text.SelectorComponent;
 import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.TranslatableComponent;
 import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.bukkit.Material;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.BookMeta;
+import org.bukkit.inventory.meta.ItemMeta;
 
-import java.nio.charset.CharsetEncoder;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 /**
+ * Flags books with characters outside of ISO-8859-1, too many pages or pages that are too large.
+ *
+ * <p>The page components are walked in place and the walk stops at the first bad character or as soon as a
+ * budget is exceeded. Nothing is shared between calls so this can run on any region thread.</p>
+ *
  * @author 254n_m
  * @since 2024/01/29 12:03 PM
  * This file was created as a part of 8b8tCore
  */
 public class BookCheck implements Check {
-    private final CharsetEncoder encoder = StandardCharsets.ISO_8859_1.newEncoder();
+    private static final int INVALID = -1;
+    private final int maxPages;
+    private final int maxPageBytes;
+    private final int maxBookBytes;
+
+    /**
+     * @param config The AntiIllegal section of the config
+     */
+    public BookCheck(ConfigurationSection config) {
+        maxPages = maxPages(config);
+        maxPageBytes = maxPageBytes(config);
+        maxBookBytes = maxBookBytes(config);
+    }
+
+    public static int maxPages(ConfigurationSection config) {
+        return config.getInt("Books.MaxPages", 100);
+    }
+
+    public static int maxPageBytes(ConfigurationSection config) {
+        return config.getInt("Books.MaxPageBytes", 2048);
+    }
+
+    /**
+     * A full book of plain text is already around 100 KB, so there is no total limit unless one is configured
+     * @return The configured limit or max int if it is 0 or less
+     */
+    public static int maxBookBytes(ConfigurationSection config) {
+        int limit = config.getInt("Books.MaxBookBytes", 0);
+        return limit <= 0 ? Integer.MAX_VALUE : limit;
+    }
 
     @Override
-    public boolean check(ItemStack item) {
-        BookMeta meta;
-        try {
-            meta = (BookMeta) item.getItemMeta();
-        } catch (Exception e) {
-            return false;
+    public boolean check(ItemStack item, ItemMeta meta) {
+        if (!(meta instanceof BookMeta bookMeta) || !bookMeta.hasPages()) return false;
+        if (bookMeta.getPageCount() > maxPages) return true;
+        int total = 0;
+        for (Component page : bookMeta.pages()) {
+            int size = scan(page, Math.min(maxPageBytes, maxBookBytes - total));
+            if (size == INVALID) return true;
+            total += size;
         }
-        String[] pages = getPages(meta).orElse(new String[0]);
-        return !(pages != null && encoder.canEncode(String.join(" ", pages)));
+        return false;
     }
 
     @Override
-    public boolean shouldCheck(ItemStack item) {
-        return item.hasItemMeta() && item.getItemMeta() instanceof BookMeta;
+    public boolean shouldCheck(ItemStack item, ItemMeta meta) {
+        return meta instanceof BookMeta;
+    }
+
+    @Override
+    public boolean appliesTo(Material material) {
+        return material == Material.WRITTEN_BOOK || material == Material.WRITABLE_BOOK;
     }
 
     @Override
     public void fix(ItemStack item) {
         BookMeta meta = (BookMeta) item.getItemMeta();
         List<Component> cleanPages = new ArrayList<>();
+        PlainTextComponentSerializer serializer = PlainTextComponentSerializer.plainText();
 
-        String[] currPages = getPages(meta).orElse(new String[0]);
-
-        for (String page : currPages) {
-            StringBuilder builder = new StringBuilder();
-            for (char c : page.toCharArray()) {
-                if (encoder.canEncode(c)) {
-                    builder.append(c);
-                }
+        int total = 0;
+        for (Component page : meta.pages()) {
+            if (cleanPages.size() >= maxPages || total >= maxBookBytes) break;
+            String text = serializer.serialize(page);
+            int budget = Math.min(maxPageBytes, maxBookBytes - total);
+            StringBuilder builder = new StringBuilder(Math.min(text.length(), budget));
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c > 0xFF) continue;
+                int size = c < 0x80 ? 1 : 2;
+                if (size > budget) break;
+                budget -= size;
+                total += size;
+                builder.append(c);
             }
-            TextComponent cleanComponent = Component.text(builder.toString());
-            cleanPages.add(cleanComponent);
+            cleanPages.add(Component.text(builder.toString()));
         }
 
         meta.pages(cleanPages);
         item.setItemMeta(meta);
     }
 
-    private Optional<String[]> getPages(BookMeta meta) {
-        if (!meta.hasPages()) {
-            return Optional.empty();
-        }
+    /**
+     * @param budget The amount of UTF-8 bytes the component may take up
+     * @return The amount of UTF-8 bytes the text of the component takes up or {@link #INVALID}
+     */
+    private int scan(Component component, int budget) {
+        int used;
+        if (component instanceof TextComponent text) {
+            used = scan(text.content(), budget);
+        } else if (component instanceof TranslatableComponent translatable) {
+            used = scan(translatable.key(), budget);
+            for (Component arg : translatable.args()) {
+                if (used == INVALID) return INVALID;
+                int size = scan(arg, budget - used);
+                used = size == INVALID ? INVALID : used + size;
+            }
+        } else if (component instanceof KeybindComponent keybind) {
+            used = scan(keybind.keybind(), budget);
+        } else if (component instanceof SelectorComponent selector) {
+            used = scan(selector.pattern(), budget);
+        } else used = 0;
 
-        PlainTextComponentSerializer serializer = PlainTextComponentSerializer.plainText();
+        for (Component child : component.children()) {
+            if (used == INVALID) return INVALID;
+            int size = scan(child, budget - used);
+            used = size == INVALID ? INVALID : used + size;
+        }
+        return used;
+    }
 
-        return Optional.of(
-                meta.pages().stream()
-                        .map(serializer::serialize)
-                        .toArray(String[]::new)
-        );
+    private int scan(String text, int budget) {
+        int used = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c > 0xFF) return INVALID;
+            used += c < 0x80 ? 1 : 2;
+            if (used > budget) return INVALID;
+        }
+        return used;
     }
 }
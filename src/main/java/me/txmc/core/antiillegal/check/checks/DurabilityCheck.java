@@ -12,16 +12,15 @@ import org.bukkit.inventory.meta.ItemMeta;
  */
 public class DurabilityCheck implements Check {
     @Override
-    public boolean check(ItemStack item) {
-        if (!item.hasItemMeta()) return false;
-        ItemMeta meta = item.getItemMeta();
+    public boolean check(ItemStack item, ItemMeta meta) {
+        if (meta == null) return false;
         if (meta instanceof Damageable damageable && damageable.getDamage() < 0) return true;
         return meta.isUnbreakable();
     }
 
     @Override
-    public boolean shouldCheck(ItemStack material) {
-        return true;
+    public boolean shouldCheck(ItemStack item, ItemMeta meta) {
+        return meta != null;
     }
 
     @Override
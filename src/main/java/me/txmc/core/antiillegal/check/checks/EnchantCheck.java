@@ -13,10 +13,8 @@ import java.util.Map;
  */
 public class EnchantCheck implements Check {
     @Override
-    public boolean check(ItemStack item) {
-        if (!item.hasItemMeta()) return false;
-        ItemMeta meta = item.getItemMeta();
-        if (!meta.hasEnchants()) return false;
+    public boolean check(ItemStack item, ItemMeta meta) {
+        if (meta == null || !meta.hasEnchants()) return false;
         if (item.getType().isBlock()) return true;
         Map<Enchantment, Integer> enchants = meta.getEnchants();
         for (Map.Entry<Enchantment, Integer> entry : enchants.entrySet()) {
@@ -44,8 +42,8 @@ public class EnchantCheck implements Check {
     }
 
     @Override
-    public boolean shouldCheck(ItemStack item) {
-        return true;
+    public boolean shouldCheck(ItemStack item, ItemMeta meta) {
+        return meta != null;
     }
 
     @Override
@@ -1,6 +1,8 @@
 package me.txmc.core.antiillegal.check.checks;
 
-import me.txmc.core.antiillegal.check.Check;import org.bukkit.inventory.ItemStack;
+import me.txmc.core.antiillegal.check.Check;import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
 
 /**
  * @author 254n_m
@@ -9,12 +11,12 @@ import me.txmc.core.antiillegal.check.Check;import org.bukkit.inventory.ItemStac
  */
 public class IllegalDataCheck implements Check {
     @Override
-    public boolean check(ItemStack item) {
+    public boolean check(ItemStack item, ItemMeta meta) {
         return false;
     }
 
     @Override
-    public boolean shouldCheck(ItemStack item) {
+    public boolean shouldCheck(ItemStack item, ItemMeta meta) {
         return false;
     }
 
@@ -22,4 +24,9 @@ public class IllegalDataCheck implements Check {
     public void fix(ItemStack item) {
 
     }
+
+    @Override
+    public boolean appliesTo(Material material) {
+        return false;
+    }
 }
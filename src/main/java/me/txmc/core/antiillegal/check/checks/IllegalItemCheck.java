@@ -1,62 +1,47 @@
 package me.txmc.core.antiillegal.check.checks;
 
-import me.txmc.core.Main;
+import lombok.Getter;
+import lombok.experimental.Accessors;
 import me.txmc.core.antiillegal.check.Check;
-import me.txmc.core.util.GlobalUtils;
+import me.txmc.core.util.MaterialRuleSet;
 import org.bukkit.Material;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.inventory.ItemStack;
-
-import java.util.*;
-import java.util.logging.Level;
+import org.bukkit.inventory.meta.ItemMeta;
 
 /**
+ * Removes every item whose material matches one of the IllegalItems rules, see {@link MaterialRuleSet} for the rule syntax.
+ *
  * @author 254n_m
  * @since 2023/10/13 8:57 PM
  * This file was created as a part of 8b8tAntiIllegal
  */
 public class IllegalItemCheck implements Check {
-    private final HashSet<Material> illegals;
+    @Getter
+    @Accessors(fluent = true)
+    private final MaterialRuleSet rules;
 
-    public IllegalItemCheck() {
-        illegals = parseConfig();
+    public IllegalItemCheck(ConfigurationSection config) {
+        rules = MaterialRuleSet.compile(config.getStringList("IllegalItems"), "IllegalItems");
     }
 
     @Override
-    public boolean check(ItemStack item) {
-        return illegals.contains(item.getType()); // O(1) thanks HashSet
+    public boolean check(ItemStack item, ItemMeta meta) {
+        return rules.contains(item.getType());
     }
 
     @Override
-    public boolean shouldCheck(ItemStack item) {
+    public boolean shouldCheck(ItemStack item, ItemMeta meta) {
         return true;
     }
 
     @Override
-    public void fix(ItemStack item) {
-        item.setAmount(0);
+    public boolean appliesTo(Material material) {
+        return rules.contains(material);
     }
 
-    private HashSet<Material> parseConfig() {
-        List<String> materialNames = Arrays.stream(Material.values()).map(Material::name).toList();
-        List<String> strList = Main.getInstance().getConfig().getStringList("AntiIllegal.IllegalItems");
-        List<Material> output = new ArrayList<>();
-        for (String raw : strList) {
-            try {
-                raw = raw.toUpperCase();
-                if (raw.contains("*")) {
-                    raw = raw.replace("*", "");
-                    for (String materialName : materialNames) {
-                        if (materialName.contains(raw)) output.add(Material.getMaterial(materialName));
-                    }
-                    continue;
-                }
-                Material material = Material.getMaterial(raw);
-                if (material == null) throw new EnumConstantNotPresentException(Material.class, raw);
-                output.add(material);
-            } catch (EnumConstantNotPresentException | IllegalArgumentException e) {
-                GlobalUtils.log(Level.WARNING, "&3Unknown material&r&a %s&r&3 in blocks section of the config", raw);
-            }
-        }
-        return new HashSet<>(output);
+    @Override
+    public void fix(ItemStack item) {
+        item.setAmount(0);
     }
 }
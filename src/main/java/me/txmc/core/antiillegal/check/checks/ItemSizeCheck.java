@@ -1,12 +1,11 @@
 package me.txmc.core.antiillegal.check.checks;
 
 import me.txmc.core.antiillegal.check.Check;
-import me.txmc.core.util.GlobalUtils;
+import me.txmc.core.util.ItemSizeEstimator;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.BlockStateMeta;
-
-import java.lang.reflect.Method;
-import java.util.logging.Level;
+import org.bukkit.inventory.meta.ItemMeta;
 
 /**
  * @author 254n_m
@@ -15,43 +14,39 @@ import java.util.logging.Level;
  */
 
 public class ItemSizeCheck implements Check {
-    private int maxSize = 1597152 / 15; //Protocol max divided by 15 IDK if this will break vanilla items but leeeee needs a patch
-
-    public ItemSizeCheck() {
-        try {
-            Object streamCodec = Class.forName("net.minecraft.world.item.ItemStack").getDeclaredField("OPTIONAL_STREAM_CODEC");
-            System.out.println();
-        } catch (Throwable t) {
-            GlobalUtils.log(Level.SEVERE, "Failed to setup reflection for item size checking. Please see stacktrace below for more details");
-            t.printStackTrace();
-        }
+    public static final int DEFAULT_MAX_SIZE = 1597152 / 15; //Protocol max divided by 15 IDK if this will break vanilla items but leeeee needs a patch
+    private final int maxSize;
+
+    /**
+     * @param config The AntiIllegal section of the config
+     */
+    public ItemSizeCheck(ConfigurationSection config) {
+        this.maxSize = maxSize(config);
+    }
+
+    /**
+     * Off by default since the check deletes the whole item, a shulker full of written books can be legitimately large
+     */
+    public static boolean isEnabled(ConfigurationSection config) {
+        return config.getBoolean("ItemSize.Enabled", false);
+    }
+
+    public static int maxSize(ConfigurationSection config) {
+        return config.getInt("ItemSize.MaxSize", DEFAULT_MAX_SIZE);
     }
 
     @Override
-    public boolean check(ItemStack item) {
-        return getSize(item) > maxSize;
+    public boolean check(ItemStack item, ItemMeta meta) {
+        return ItemSizeEstimator.sizeOf(item, maxSize) > maxSize;
     }
 
     @Override
-    public boolean shouldCheck(ItemStack item) {
-        return item.hasItemMeta() && item.getItemMeta() instanceof BlockStateMeta;
+    public boolean shouldCheck(ItemStack item, ItemMeta meta) {
+        return meta instanceof BlockStateMeta;
     }
 
     @Override
     public void fix(ItemStack item) {
         item.setAmount(0);
     }
-
-    private int getSize(ItemStack itemStack) {
-        try {
-            Object nmsStack = itemStack.getClass().getField("handle").get(itemStack);
-
-            return -1;
-        } catch (Throwable t) {
-            if (t instanceof NoSuchFieldException) return -1;
-            GlobalUtils.log(Level.WARNING, "Failed to determine size of ItemStack. Please see stacktrace below for more info");
-            t.printStackTrace();
-            return -1;
-        }
-    }
 }
@@ -13,13 +13,13 @@ import java.util.List;
  */
 public class LoreCheck implements Check {
     @Override
-    public boolean check(ItemStack item) {
-        return item.hasItemMeta() && item.getItemMeta().hasLore();
+    public boolean check(ItemStack item, ItemMeta meta) {
+        return meta != null && meta.hasLore();
     }
 
     @Override
-    public boolean shouldCheck(ItemStack item) {
-        return true;
+    public boolean shouldCheck(ItemStack item, ItemMeta meta) {
+        return meta != null;
     }
 
     @Override
@@ -15,22 +15,22 @@ import org.bukkit.inventory.meta.ItemMeta;
  */
 @RequiredArgsConstructor
 public class NameCheck implements Check {
+    public static final int MAX_NAME_LENGTH = 50;
     private final ConfigurationSection config;
     @Override
-    public boolean check(ItemStack item) {
-        if (!item.hasItemMeta()) return false;
-        ItemMeta meta = item.getItemMeta();
-        if (meta.displayName() == null) return false;
-        Component name =  meta.displayName();
+    public boolean check(ItemStack item, ItemMeta meta) {
+        if (meta == null) return false;
+        Component name = meta.displayName();
+        if (name == null) return false;
         if (name.hasStyling()) return false;
         if (hasDecorations(name)) return false;
-        if (GlobalUtils.getStringContent(name).length() > 50) return true;
+        if (GlobalUtils.getStringContent(name).length() > MAX_NAME_LENGTH) return true;
         return false;
     }
 
     @Override
-    public boolean shouldCheck(ItemStack item) {
-        return true;
+    public boolean shouldCheck(ItemStack item, ItemMeta meta) {
+        return meta != null && meta.hasDisplayName();
     }
 
     @Override
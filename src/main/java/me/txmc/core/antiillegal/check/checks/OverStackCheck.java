@@ -1,6 +1,7 @@
 package me.txmc.core.antiillegal.check.checks;
 
 import me.txmc.core.antiillegal.check.Check;import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
 
 /**
  * @author 254n_m
@@ -9,12 +10,12 @@ import me.txmc.core.antiillegal.check.Check;import org.bukkit.inventory.ItemStac
  */
 public class OverStackCheck implements Check {
     @Override
-    public boolean check(ItemStack item) {
+    public boolean check(ItemStack item, ItemMeta meta) {
         return item.getAmount() > item.getType().getMaxStackSize();
     }
 
     @Override
-    public boolean shouldCheck(ItemStack item) {
+    public boolean shouldCheck(ItemStack item, ItemMeta meta) {
         return true;
     }
 
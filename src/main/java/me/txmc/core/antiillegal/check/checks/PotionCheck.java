@@ -1,7 +1,9 @@
 package me.txmc.core.antiillegal.check.checks;
 
 import me.txmc.core.antiillegal.check.Check;
+import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.inventory.meta.PotionMeta;
 
@@ -12,15 +14,14 @@ import org.bukkit.inventory.meta.PotionMeta;
  */
 public class PotionCheck implements Check {
 
-    private static final int MAX_LEGAL_DURATION = 490 * 20;
-    private static final int MAX_LEGAL_AMPLIFIER = 2;
+    public static final int MAX_LEGAL_DURATION = 490 * 20;
+    public static final int MAX_LEGAL_AMPLIFIER = 2;
 
     @Override
-    public boolean check(ItemStack item) {
-        if (!shouldCheck(item)) return false;
+    public boolean check(ItemStack item, ItemMeta meta) {
+        if (!(meta instanceof PotionMeta potionMeta)) return false;
 
-        PotionMeta meta = (PotionMeta) item.getItemMeta();
-        for (PotionEffect effect : meta.getCustomEffects()) {
+        for (PotionEffect effect : potionMeta.getCustomEffects()) {
             if (isIllegalEffect(effect)) {
                 return true;
             }
@@ -29,16 +30,23 @@ public class PotionCheck implements Check {
     }
 
     @Override
-    public boolean shouldCheck(ItemStack item) {
-        return item != null && item.hasItemMeta() && item.getItemMeta() instanceof PotionMeta;
+    public boolean shouldCheck(ItemStack item, ItemMeta meta) {
+        return meta instanceof PotionMeta;
     }
 
     @Override
     public void fix(ItemStack item) {
-        if (!shouldCheck(item)) return;
         try {item.setAmount(0);} catch (Exception ignored) {}
     }
 
+    @Override
+    public boolean appliesTo(Material material) {
+        return switch (material) {
+            case POTION, SPLASH_POTION, LINGERING_POTION, TIPPED_ARROW -> true;
+            default -> false;
+        };
+    }
+
     private boolean isIllegalEffect(PotionEffect effect) {
         return effect.getDuration() > MAX_LEGAL_DURATION || effect.getAmplifier() > MAX_LEGAL_AMPLIFIER;
     }
@@ -0,0 +1,83 @@
+package me.txmc.core.antiillegal.command;
+
+import lombok.RequiredArgsConstructor;
+import me.txmc.core.antiillegal.AntiIllegalMain;
+import me.txmc.core.antiillegal.CleanItemCache;
+import me.txmc.core.antiillegal.check.checks.IllegalItemCheck;
+import me.txmc.core.antiillegal.metrics.AntiIllegalMetrics;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+import org.jetbrains.annotations.NotNull;
+
+import static me.txmc.core.util.GlobalUtils.sendMessage;
+
+/**
+ * Handles the /antiillegal command which shows how much time the anti-illegal checks take.
+ *
+ * <p>Subcommands:</p>
+ * <ul>
+ *     <li><code>checks</code> every check, most expensive first</li>
+ *     <li><code>sources</code> the listeners the checked items came from</li>
+ *     <li><code>reset</code> resets all counters</li>
+ *     <li><code>rules</code> what each IllegalItems rule expanded to</li>
+ *     <li><code>scanplayers</code> checks the saved inventories of offline players and writes a report</li>
+ *     <li><code>scanregions [world]</code> checks the region files of a world and queues the illegal blocks it finds</li>
+ * </ul>
+ * <p>Without a subcommand the five most expensive checks and the clean item cache are shown.</p>
+ *
+ * @author 0x15d3v2
+ * @since 2026/10/16 2:20 PM
+ * This file was created as a part of 8b8tCore
+ */
+@RequiredArgsConstructor
+public class AntiIllegalCommand implements CommandExecutor {
+    private static final String PERMISSION = "8b8tcore.command.antiillegal";
+    private final AntiIllegalMain main;
+
+    @Override
+    public boolean onCommand(@NotNull CommandSender sender, @NotNull Command command, @NotNull String label, String[] args) {
+        if (!sender.hasPermission(PERMISSION) && !sender.isOp()) {
+            sendMessage(sender, "&cYou are lacking the permission&r&a %s", PERMISSION);
+            return true;
+        }
+        AntiIllegalMetrics metrics = main.metrics();
+        String sub = args.length > 0 ? args[0].toLowerCase() : "stats";
+        switch (sub) {
+            case "checks" -> {
+                sendHeader(sender, metrics);
+                metrics.describeChecks(Integer.MAX_VALUE).forEach(line -> sendMessage(sender, "%s", line));
+            }
+            case "sources" -> {
+                sendHeader(sender, metrics);
+                metrics.describeSources().forEach(line -> sendMessage(sender, "%s", line));
+            }
+            case "reset" -> {
+                metrics.reset();
+                sendMessage(sender, "&3Anti-illegal metrics have been reset");
+            }
+            case "rules" -> main.checks().stream()
+                    .filter(check -> check instanceof IllegalItemCheck)
+                    .findFirst()
+                    .map(check -> ((IllegalItemCheck) check).rules().describe())
+                    .ifPresentOrElse(lines -> lines.forEach(line -> sendMessage(sender, "%s", line)),
+                            () -> sendMessage(sender, "&cThe IllegalItemCheck is disabled"));
+            case "scanplayers" -> main.offlineScans().scanPlayers(sender);
+            case "scanregions" -> main.offlineScans().scanRegions(sender, args.length > 1 ? args[1] : null);
+            case "stats" -> {
+                sendHeader(sender, metrics);
+                metrics.describeChecks(5).forEach(line -> sendMessage(sender, "%s", line));
+                CleanItemCache cache = main.cleanCache();
+                if (cache != null) {
+                    sendMessage(sender, "&3Clean item cache&r: &a%d&r entries, &a%d&r hits, &c%d&r misses", cache.size(), cache.hits(), cache.misses());
+                }
+            }
+            default -> sendMessage(sender, "&c/antiillegal [stats|checks|sources|reset|rules|scanplayers|scanregions [world]]");
+        }
+        return true;
+    }
+
+    private void sendHeader(CommandSender sender, AntiIllegalMetrics metrics) {
+        sendMessage(sender, "&3Anti-illegal metrics for the last &a%d&3 seconds", (System.currentTimeMillis() - metrics.since()) / 1000);
+    }
+}
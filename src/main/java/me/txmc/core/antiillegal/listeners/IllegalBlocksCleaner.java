@@ -1,6 +1,10 @@
 package me.txmc.core.antiillegal.listeners;
 
+import me.txmc.core.Main;
+import me.txmc.core.antiillegal.offline.PendingBlockFixes;
+import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
 import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.event.EventHandler;
@@ -8,6 +12,13 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.world.ChunkLoadEvent;
 import org.bukkit.block.Block;
 
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Listener for cleaning illegal blocks in chunks when they are loaded.
  *
@@ -20,6 +31,9 @@ import org.bukkit.block.Block;
  *     <li>Handling the ChunkLoadEvent to process chunks when they are loaded</li>
  *     <li>Checking each block within the chunk to determine if it is illegal</li>
  *     <li>Replacing illegal blocks with air</li>
+ *     <li>Optionally scanning a snapshot of the chunk on a worker pool, skipping empty sections, so only
+ *     the fixes themselves run on the region thread</li>
+ *     <li>Applying the fixes the offline region scanner found once their chunk loads</li>
  * </ul>
  *
  * <p>Note: The range of Y coordinates is dynamically adjusted based on the world type, with special handling
@@ -30,36 +44,125 @@ import org.bukkit.block.Block;
  */
 
 public class IllegalBlocksCleaner implements Listener {
+    private static final int[] NO_HITS = new int[0];
+    private final Main plugin;
+    private final PendingBlockFixes pendingFixes;
+    private final boolean enabled;
+    private final ExecutorService scanner;
+
+    /**
+     * @param pendingFixes Fixes found by the region scanner that are applied when their chunk loads
+     * @param enabled Whether every loaded chunk should be scanned or only the ones with pending fixes
+     * @param threads Size of the worker pool used to scan chunk snapshots, 0 to scan on the region thread
+     */
+    public IllegalBlocksCleaner(Main plugin, PendingBlockFixes pendingFixes, boolean enabled, int threads) {
+        this.plugin = plugin;
+        this.pendingFixes = pendingFixes;
+        this.enabled = enabled;
+        if (enabled && threads > 0) {
+            AtomicInteger id = new AtomicInteger();
+            // When the queue is full the region thread scans the chunk itself instead of piling up snapshots
+            scanner = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(4096),
+                    r -> {
+                        Thread thread = new Thread(r, "8b8tCore-ChunkScanner-" + id.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }, new ThreadPoolExecutor.CallerRunsPolicy());
+        } else scanner = null;
+    }
 
     @EventHandler
     public void onChunkLoad(ChunkLoadEvent event) {
 
         Chunk chunk = event.getChunk();
+        World world = event.getWorld();
 
-        int yUpperLimit = event.getWorld().getMaxHeight();
-        int yLowerLimit = event.getWorld().getMinHeight();
+        int yUpperLimit = upperLimit(world);
+        int yLowerLimit = world.getMinHeight();
 
-        if (event.getWorld().getEnvironment() == World.Environment.NETHER) {
-            yUpperLimit = 125;
+        // Chunks the region scanner found illegal blocks in are fixed even when the cleaner is disabled
+        int[] pending = pendingFixes.take(world.getUID(), chunk.getChunkKey());
+        if (pending != null) fix(world, chunk.getX(), chunk.getZ(), yLowerLimit, pending);
+        if (!enabled) return;
+
+        if (scanner != null) {
+            ChunkSnapshot snapshot = chunk.getChunkSnapshot(false, false, false);
+            int chunkX = chunk.getX(), chunkZ = chunk.getZ(), minY = yLowerLimit, maxY = yUpperLimit;
+            scanner.execute(() -> {
+                int[] hits = scanSnapshot(snapshot, minY, maxY);
+                if (hits.length == 0) return;
+                Bukkit.getRegionScheduler().execute(plugin, world, chunkX, chunkZ, () -> fix(world, chunkX, chunkZ, minY, hits));
+            });
+            return;
         }
 
         for (int x = 0; x < 16; x++) {
             for (int z = 0; z < 16; z++) {
                 for (int y = yLowerLimit; y < yUpperLimit; y++) {
                     Block block = chunk.getBlock(x, y, z);
-                    Material type = block.getType();
-
-                    if (type == Material.END_PORTAL_FRAME ||
-                            type == Material.REINFORCED_DEEPSLATE ||
-                            type == Material.BARRIER ||
-                            type == Material.LIGHT ||
-                            type == Material.END_PORTAL ||
-                            (type == Material.BEDROCK && y >= yLowerLimit + 5)) {
-                        block.setType(Material.AIR);
+                    if (isIllegal(block.getType(), y, yLowerLimit)) block.setType(Material.AIR);
+                }
+            }
+        }
+    }
+
+    public void shutdown() {
+        if (scanner != null) scanner.shutdownNow();
+    }
+
+    /**
+     * @return The positions of the illegal blocks packed as x | z << 4 | (y - minY) << 8
+     */
+    private int[] scanSnapshot(ChunkSnapshot snapshot, int minY, int maxY) {
+        int[] hits = NO_HITS;
+        int count = 0;
+        for (int section = 0, sectionY = minY; sectionY < maxY; section++, sectionY += 16) {
+            if (snapshot.isSectionEmpty(section)) continue;
+            int top = Math.min(sectionY + 16, maxY);
+            for (int y = sectionY; y < top; y++) {
+                for (int z = 0; z < 16; z++) {
+                    for (int x = 0; x < 16; x++) {
+                        if (!isIllegal(snapshot.getBlockType(x, y, z), y, minY)) continue;
+                        if (count == hits.length) hits = Arrays.copyOf(hits, Math.max(8, count * 2));
+                        hits[count++] = x | z << 4 | (y - minY) << 8;
                     }
                 }
             }
         }
+        return count == hits.length ? hits : Arrays.copyOf(hits, count);
     }
 
-}
\ No newline at end of file
+    private void fix(World world, int chunkX, int chunkZ, int minY, int[] hits) {
+        if (!world.isChunkLoaded(chunkX, chunkZ)) return;
+        Chunk chunk = world.getChunkAt(chunkX, chunkZ);
+        for (int packed : hits) {
+            int y = (packed >>> 8) + minY;
+            Block block = chunk.getBlock(packed & 15, y, (packed >>> 4) & 15);
+            // The chunk may have changed while it was being scanned
+            if (isIllegal(block.getType(), y, minY)) block.setType(Material.AIR);
+        }
+    }
+
+    public static boolean isIllegal(Material type, int y, int minY) {
+        return type == Material.END_PORTAL_FRAME ||
+                type == Material.REINFORCED_DEEPSLATE ||
+                type == Material.BARRIER ||
+                type == Material.LIGHT ||
+                type == Material.END_PORTAL ||
+                (type == Material.BEDROCK && y >= minY + 5);
+    }
+
+    /**
+     * @return true if the block is illegal at least at some heights
+     */
+    public static boolean canBeIllegal(Material type) {
+        return isIllegal(type, Integer.MAX_VALUE, 0);
+    }
+
+    /**
+     * @return The highest Y the cleaner looks at in the given world, exclusive
+     */
+    public static int upperLimit(World world) {
+        return world.getEnvironment() == World.Environment.NETHER ? 125 : world.getMaxHeight();
+    }
+}
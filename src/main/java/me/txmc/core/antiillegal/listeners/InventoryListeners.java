@@ -2,11 +2,13 @@ package me.txmc.core.antiillegal.listeners;
 
 import lombok.RequiredArgsConstructor;
 import me.txmc.core.antiillegal.AntiIllegalMain;
+import me.txmc.core.antiillegal.metrics.Source;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.*;
 import org.bukkit.event.player.PlayerItemConsumeEvent;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
 
 /**
  * @author 254n_m
@@ -19,37 +21,40 @@ public class InventoryListeners implements Listener {
 
     @EventHandler
     public void onInventoryOpen(InventoryOpenEvent event) {
-        inventoryEvent(event);
-    }
-
-    @EventHandler
-    public void onInventoryClose(InventoryCloseEvent event) {
-        inventoryEvent(event);
+        for (ItemStack itemStack : event.getInventory()) main.checkFixItem(itemStack, null, Source.INVENTORY);
     }
 
+    /**
+     * Only the slots a click can touch are checked, everything else was checked when it got into the inventory
+     */
     @EventHandler
     public void onClick(InventoryClickEvent event) {
-        main.checkFixItem(event.getCursor(), event);
-    }
-
-    @EventHandler
-    public void onHopper(InventoryMoveItemEvent event) {
-        main.checkFixItem(event.getItem(), event);
+        main.checkFixItem(event.getCursor(), event, Source.CLICK);
+        main.checkFixItem(event.getCurrentItem(), event, Source.CLICK);
+        PlayerInventory inventory = event.getWhoClicked().getInventory();
+        if (event.getClick() == ClickType.NUMBER_KEY) {
+            main.checkFixItem(inventory.getItem(event.getHotbarButton()), event, Source.CLICK);
+        } else if (event.getClick() == ClickType.SWAP_OFFHAND) {
+            main.checkFixItem(inventory.getItemInOffHand(), event, Source.CLICK);
+        }
     }
 
     @EventHandler
-    private void inventoryEvent(InventoryEvent event) {
-        for (ItemStack itemStack : event.getInventory()) main.checkFixItem(itemStack, null);
+    public void onDrag(InventoryDragEvent event) {
+        // These are copies of what is about to be placed, so failing items cancel the drag instead
+        main.checkFixItem(event.getOldCursor(), event, Source.CLICK);
+        for (ItemStack itemStack : event.getNewItems().values()) main.checkFixItem(itemStack, event, Source.CLICK);
     }
 
     @EventHandler
-    private void inventoryClickEvent(InventoryClickEvent event) {
-        for (ItemStack itemStack : event.getInventory()) main.checkFixItem(itemStack, event);
+    public void onHopper(InventoryMoveItemEvent event) {
+        main.checkFixItem(event.getItem(), event, Source.HOPPER);
     }
 
     @EventHandler
-    private void playerItemConsumeEvent(PlayerItemConsumeEvent event) {
-        for (ItemStack itemStack : event.getPlayer().getInventory()) main.checkFixItem(itemStack, event);
+    public void playerItemConsumeEvent(PlayerItemConsumeEvent event) {
+        main.checkFixItem(event.getItem(), event, Source.CONSUME);
+        main.checkFixItem(event.getPlayer().getInventory().getItem(event.getHand()), event, Source.CONSUME);
     }
 
 }
@@ -3,6 +3,7 @@ package me.txmc.core.antiillegal.listeners;
 import io.papermc.paper.event.block.BlockPreDispenseEvent;
 import lombok.RequiredArgsConstructor;
 import me.txmc.core.antiillegal.AntiIllegalMain;
+import me.txmc.core.antiillegal.metrics.Source;
 import org.bukkit.entity.ArmorStand;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.ItemFrame;
@@ -24,7 +25,7 @@ public class MiscListeners implements Listener {
 
     @EventHandler
     public void onDispenser(BlockPreDispenseEvent event) {
-        main.checkFixItem(event.getItemStack(), event);
+        main.checkFixItem(event.getItemStack(), event, Source.DISPENSE);
     }
 
     @EventHandler
@@ -33,7 +34,7 @@ public class MiscListeners implements Listener {
         Entity[] entities = event.getChunk().getEntities();
         for (Entity entity : entities) {
             if (entity instanceof ItemFrame frame) {
-                main.checkFixItem(frame.getItem(), null);
+                main.checkFixItem(frame.getItem(), null, Source.CHUNK_LOAD);
             } else if (entity instanceof ArmorStand stand) {
                 checkStand(stand, main);
             }
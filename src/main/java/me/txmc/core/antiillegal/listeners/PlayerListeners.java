@@ -2,8 +2,7 @@ package me.txmc.core.antiillegal.listeners;
 
 import lombok.RequiredArgsConstructor;
 import me.txmc.core.antiillegal.AntiIllegalMain;
-import me.txmc.core.antiillegal.check.Check;
-import me.txmc.core.util.GlobalUtils;
+import me.txmc.core.antiillegal.metrics.Source;
 import org.bukkit.entity.ArmorStand;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -13,8 +12,6 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.PlayerInventory;
 import org.bukkit.potion.PotionEffect;
 
-import java.util.logging.Level;
-
 import static me.txmc.core.antiillegal.util.Utils.checkStand;
 import static me.txmc.core.util.GlobalUtils.executeCommand;
 
@@ -31,43 +28,37 @@ public class PlayerListeners implements Listener {
     public void onJoin(PlayerJoinEvent event) {
         PlayerInventory inventory = event.getPlayer().getInventory();
         for (ItemStack item : inventory.getContents()) {
-            main.checkFixItem(item, null);
+            main.checkFixItem(item, null, Source.JOIN);
         }
         for (ItemStack item : inventory.getArmorContents()) {
-            main.checkFixItem(item, null);
+            main.checkFixItem(item, null, Source.JOIN);
         }
         for (ItemStack item : inventory.getExtraContents()) {
-            main.checkFixItem(item, null);
+            main.checkFixItem(item, null, Source.JOIN);
         }
         for (ItemStack item : event.getPlayer().getEnderChest()) {
-            main.checkFixItem(item, null);
+            main.checkFixItem(item, null, Source.JOIN);
         }
         for (PotionEffect effect : event.getPlayer().getActivePotionEffects()) {
             event.getPlayer().removePotionEffect(effect.getType());
         }
-        main.checkFixItem(inventory.getItemInOffHand(), null);
+        main.checkFixItem(inventory.getItemInOffHand(), null, Source.JOIN);
     }
 
     @EventHandler
     public void onDropItem(PlayerDropItemEvent event) {
-        ItemStack itemStack = event.getItemDrop().getItemStack();
-        for (Check check : main.checks()) {
-            if (!check.check(itemStack)) continue;
-            if (!event.isCancelled()) event.setCancelled(true);
-            GlobalUtils.log(Level.INFO, "Item %s failed the %s check and has been fixed.", itemStack, check.getClass().getSimpleName());
-            check.fix(itemStack);
-        }
+        main.checkFixItem(event.getItemDrop().getItemStack(), event, Source.DROP);
     }
 
     @EventHandler
     public void onOffhand(PlayerSwapHandItemsEvent event) {
-        main.checkFixItem(event.getMainHandItem(), event);
-        main.checkFixItem(event.getOffHandItem(), event);
+        main.checkFixItem(event.getMainHandItem(), event, Source.SWAP_HANDS);
+        main.checkFixItem(event.getOffHandItem(), event, Source.SWAP_HANDS);
     }
 
     @EventHandler
     public void onPickup(PlayerAttemptPickupItemEvent event) {
-        main.checkFixItem(event.getItem().getItemStack(), event);
+        main.checkFixItem(event.getItem().getItemStack(), event, Source.PICKUP);
     }
 
     @EventHandler
@@ -79,6 +70,6 @@ public class PlayerListeners implements Listener {
     @EventHandler
     public void onInteract(PlayerInteractEvent event) {
         if (event.getItem() == null) return;
-        main.checkFixItem(event.getItem(), event);
+        main.checkFixItem(event.getItem(), event, Source.INTERACT);
     }
 }
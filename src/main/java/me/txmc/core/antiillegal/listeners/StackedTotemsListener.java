@@ -9,7 +9,6 @@ import org.bukkit.event.inventory.*;
 import org.bukkit.event.player.PlayerDropItemEvent;
 import org.bukkit.event.player.PlayerItemConsumeEvent;
 import org.bukkit.event.player.PlayerSwapHandItemsEvent;
-import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 
 /**
@@ -21,7 +20,7 @@ import org.bukkit.inventory.ItemStack;
  *
  * <p>Functionality includes:</p>
  * <ul>
- *     <li>Cleaning up totem stacks when a player clicks in their inventory</li>
+ *     <li>Cleaning up totem stacks in the slots a player clicks in their inventory</li>
  *     <li>Handling item pickups to prevent stacked totems</li>
  *     <li>Ensuring totem stack size remains compliant during item swaps</li>
  *     <li>Clearing totem stacks during inventory drag operations</li>
@@ -36,89 +35,73 @@ public class StackedTotemsListener implements Listener {
 
     @EventHandler
     public void onInventoryClick(InventoryClickEvent event) {
-        if (event.getWhoClicked() instanceof Player) {
-            var player = (Player) event.getWhoClicked();
+        if (event.getWhoClicked() instanceof Player player) {
             var inventory = player.getInventory();
-            cleanTotemStacks(inventory);
+            cleanTotemStack(event.getCursor());
+            cleanTotemStack(event.getCurrentItem());
+            if (event.getClick() == ClickType.NUMBER_KEY) {
+                cleanTotemStack(inventory.getItem(event.getHotbarButton()));
+            } else if (event.getClick() == ClickType.SWAP_OFFHAND) {
+                cleanTotemStack(inventory.getItemInOffHand());
+            }
         }
     }
 
     @EventHandler
     public void onEntityPickupItem(EntityPickupItemEvent event) {
         if (event.getEntity() instanceof Player) {
-            var player = (Player) event.getEntity();
-            var item = event.getItem().getItemStack();
-            cleanTotemStack(item, player);
+            cleanTotemStack(event.getItem().getItemStack());
         }
     }
 
     @EventHandler
     public void onPlayerItemConsume(PlayerItemConsumeEvent event) {
-        var item = event.getItem();
-        if (item.getType() == Material.TOTEM_OF_UNDYING) {
-            var player = event.getPlayer();
-            var inventory = player.getInventory();
-            cleanTotemStacks(inventory);
-        }
+        var inventory = event.getPlayer().getInventory();
+        cleanTotemStack(inventory.getItemInMainHand());
+        cleanTotemStack(inventory.getItemInOffHand());
     }
 
     @EventHandler
     public void onPlayerSwapHandItems(PlayerSwapHandItemsEvent event) {
-        var player = event.getPlayer();
-        var inventory = player.getInventory();
-
-        cleanTotemStacks(inventory);
+        cleanTotemStack(event.getMainHandItem());
+        cleanTotemStack(event.getOffHandItem());
     }
 
 
     @EventHandler
     public void onInventoryDrag(InventoryDragEvent event) {
         if (event.getWhoClicked() instanceof Player) {
-            var player = (Player) event.getWhoClicked();
-            var inventory = player.getInventory();
-            cleanTotemStacks(inventory);
+            // The new items are copies so a stacked totem can only be stopped by cancelling the drag
+            if (isStackedTotem(event.getOldCursor())) {
+                event.setCancelled(true);
+                return;
+            }
+            for (ItemStack item : event.getNewItems().values()) {
+                if (isStackedTotem(item)) {
+                    event.setCancelled(true);
+                    return;
+                }
+            }
         }
     }
 
     @EventHandler
     public void onInventoryPickup(InventoryPickupItemEvent event) {
-        var inventory = event.getInventory();
-        cleanTotemStacks(inventory);
+        cleanTotemStack(event.getItem().getItemStack());
     }
 
     @EventHandler
     public void onPlayerDropItem(PlayerDropItemEvent event) {
-        var player = event.getPlayer();
-        var inventory = player.getInventory();
-        cleanTotemStacks(inventory);
-    }
-
-    private void cleanTotemStacks(Inventory inventory) {
-        for (ItemStack item : inventory.getContents()) {
-            if (item != null && item.getType() == Material.TOTEM_OF_UNDYING) {
-                int amount = item.getAmount();
-                if (amount > 1) {
-                    item.setAmount(1); // Keep only one totem
-                    //inventory.addItem(new ItemStack(Material.TOTEM_OF_UNDYING, amount - 1)); // Add the rest to the inventory
-                }
-            }
-        }
+        cleanTotemStack(event.getItemDrop().getItemStack());
     }
 
-    private void cleanTotemStack(ItemStack item, Player player) {
-        if (item.getType() == Material.TOTEM_OF_UNDYING) {
-            int amount = item.getAmount();
-            if (amount > 1) {
-                item.setAmount(1);
-                //player.getInventory().addItem(new ItemStack(Material.TOTEM_OF_UNDYING, amount - 1));
-            }
-        }
+    private boolean isStackedTotem(ItemStack item) {
+        return item != null && item.getType() == Material.TOTEM_OF_UNDYING && item.getAmount() > 1;
     }
 
-    private void cleanItemStack(ItemStack item) {
-        int amount = item.getAmount();
-        if (amount > 1) {
-            item.setAmount(1);
+    private void cleanTotemStack(ItemStack item) {
+        if (isStackedTotem(item)) {
+            item.setAmount(1); // Keep only one totem
         }
     }
 
@@ -0,0 +1,86 @@
+package me.txmc.core.antiillegal.metrics;
+
+import me.txmc.core.antiillegal.check.Check;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per check and per source counters for the anti-illegal pipeline.
+ *
+ * <p>Checks are keyed by their class so the numbers survive the check chain being rebuilt on a config reload.</p>
+ *
+ * @author 0x15d3v2
+ * @since 2026/10/16 2:12 PM
+ * This file was created as a part of 8b8tCore
+ */
+public class AntiIllegalMetrics {
+    private final Map<Class<? extends Check>, Counters> checks = new ConcurrentHashMap<>();
+    private final Counters[] sources = new Counters[Source.values().length];
+    private volatile long since = System.currentTimeMillis();
+
+    public AntiIllegalMetrics() {
+        for (int i = 0; i < sources.length; i++) sources[i] = new Counters();
+    }
+
+    public Counters check(Check check) {
+        Counters counters = checks.get(check.getClass());
+        return counters != null ? counters : checks.computeIfAbsent(check.getClass(), c -> new Counters());
+    }
+
+    public Counters source(Source source) {
+        return sources[source.ordinal()];
+    }
+
+    /**
+     * @return The name and counters of every check that has run, most expensive first
+     */
+    public List<Map.Entry<String, Counters>> checksByCost() {
+        List<Map.Entry<String, Counters>> entries = new ArrayList<>();
+        checks.forEach((type, counters) -> entries.add(Map.entry(type.getSimpleName(), counters)));
+        entries.sort(Comparator.comparingLong((Map.Entry<String, Counters> e) -> e.getValue().nanos()).reversed());
+        return entries;
+    }
+
+    /**
+     * @param limit The maximum amount of checks to describe
+     * @return One line per check, most expensive first
+     */
+    public List<String> describeChecks(int limit) {
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<String, Counters> entry : checksByCost()) {
+            if (lines.size() >= limit) break;
+            Counters c = entry.getValue();
+            lines.add(String.format("&3%s&r: &a%d&r runs, &c%d&r hits, &c%d&r fixes, &e%d&rns avg, &e%d&rms total",
+                    entry.getKey(), c.invocations(), c.hits(), c.fixes(), c.averageNanos(), c.nanos() / 1_000_000));
+        }
+        return lines;
+    }
+
+    /**
+     * @return One line per source that has seen at least one item
+     */
+    public List<String> describeSources() {
+        List<String> lines = new ArrayList<>();
+        for (Source source : Source.values()) {
+            Counters c = source(source);
+            if (c.invocations() == 0) continue;
+            lines.add(String.format("&3%s&r: &a%d&r items, &c%d&r fixed, &e%d&rns avg, &e%d&rms total",
+                    source.name().toLowerCase(), c.invocations(), c.hits(), c.averageNanos(), c.nanos() / 1_000_000));
+        }
+        return lines;
+    }
+
+    public long since() {
+        return since;
+    }
+
+    public void reset() {
+        checks.values().forEach(Counters::reset);
+        for (Counters counters : sources) counters.reset();
+        since = System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,60 @@
+package me.txmc.core.antiillegal.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters for a single check or source, safe to update from any region thread
+ *
+ * @author 0x15d3v2
+ * @since 2026/10/16 2:07 PM
+ * This file was created as a part of 8b8tCore
+ */
+public class Counters {
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder fixes = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+
+    /**
+     * @param hit true if the item failed the check
+     * @param nanos Time spent on the item
+     */
+    public void record(boolean hit, long nanos) {
+        invocations.increment();
+        if (hit) hits.increment();
+        this.nanos.add(nanos);
+    }
+
+    public void fixed(long nanos) {
+        fixes.increment();
+        this.nanos.add(nanos);
+    }
+
+    public long invocations() {
+        return invocations.sum();
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long fixes() {
+        return fixes.sum();
+    }
+
+    public long nanos() {
+        return nanos.sum();
+    }
+
+    public long averageNanos() {
+        long invocations = invocations();
+        return invocations == 0 ? 0 : nanos() / invocations;
+    }
+
+    public void reset() {
+        invocations.reset();
+        hits.reset();
+        fixes.reset();
+        nanos.reset();
+    }
+}
@@ -0,0 +1,24 @@
+package me.txmc.core.antiillegal.metrics;
+
+/**
+ * Where an item handed to the anti-illegal checks came from
+ *
+ * @author 0x15d3v2
+ * @since 2026/10/16 2:05 PM
+ * This file was created as a part of 8b8tCore
+ */
+public enum Source {
+    JOIN,
+    DROP,
+    SWAP_HANDS,
+    PICKUP,
+    INTERACT,
+    ARMOR_STAND,
+    CLICK,
+    HOPPER,
+    INVENTORY,
+    CONSUME,
+    DISPENSE,
+    CHUNK_LOAD,
+    OTHER
+}
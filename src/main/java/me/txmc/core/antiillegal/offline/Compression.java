@@ -0,0 +1,107 @@
+package me.txmc.core.antiillegal.offline;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Reads and inflates files for the offline scanners.
+ *
+ * <p>Every thread reuses its own buffers and inflaters so a scan allocates next to nothing per file. The
+ * returned buffers are only valid until the same thread reads or inflates again.</p>
+ *
+ * @author 0x15d3v2
+ * @since 2026/10/16 4:20 PM
+ * This file was created as a part of 8b8tCore
+ */
+public class Compression {
+    // The ids used by region files
+    public static final int GZIP = 1;
+    public static final int ZLIB = 2;
+    public static final int NONE = 3;
+    private static final int MAX_INFLATED_SIZE = 64 * 1024 * 1024;
+
+    private static final ThreadLocal<Inflater> RAW_INFLATER = ThreadLocal.withInitial(() -> new Inflater(true));
+    private static final ThreadLocal<Inflater> ZLIB_INFLATER = ThreadLocal.withInitial(Inflater::new);
+    private static final ThreadLocal<ByteBuffer[]> FILE_BUFFER = ThreadLocal.withInitial(() -> new ByteBuffer[]{ByteBuffer.allocate(64 * 1024)});
+    private static final ThreadLocal<byte[][]> INFLATE_BUFFER = ThreadLocal.withInitial(() -> new byte[][]{new byte[256 * 1024]});
+
+    /**
+     * Reads a whole file into this thread's file buffer
+     */
+    public static ByteBuffer readFile(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > MAX_INFLATED_SIZE) throw new IOException("File is too large " + size);
+            ByteBuffer[] holder = FILE_BUFFER.get();
+            if (holder[0].capacity() < size) holder[0] = ByteBuffer.allocate((int) size);
+            ByteBuffer buffer = holder[0];
+            buffer.clear().limit((int) size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) break;
+            }
+            return buffer.flip();
+        }
+    }
+
+    /**
+     * @param source The compressed data, consumed by this call
+     * @param type {@link #GZIP}, {@link #ZLIB} or {@link #NONE}
+     * @return The inflated data backed by this thread's inflate buffer
+     */
+    public static ByteBuffer inflate(ByteBuffer source, int type) throws IOException {
+        Inflater inflater;
+        switch (type) {
+            case NONE -> {
+                return source;
+            }
+            case GZIP -> {
+                skipGzipHeader(source);
+                inflater = RAW_INFLATER.get();
+            }
+            case ZLIB -> inflater = ZLIB_INFLATER.get();
+            default -> throw new IOException("Unknown compression type " + type);
+        }
+
+        byte[][] holder = INFLATE_BUFFER.get();
+        byte[] output = holder[0];
+        int length = 0;
+        inflater.reset();
+        inflater.setInput(source);
+        try {
+            while (!inflater.finished()) {
+                if (length == output.length) {
+                    if (output.length >= MAX_INFLATED_SIZE) throw new IOException("Inflated data is larger than " + MAX_INFLATED_SIZE + " bytes");
+                    byte[] grown = new byte[Math.min(output.length * 2, MAX_INFLATED_SIZE)];
+                    System.arraycopy(output, 0, grown, 0, length);
+                    holder[0] = output = grown;
+                }
+                int read = inflater.inflate(output, length, output.length - length);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) throw new IOException("Compressed data is truncated");
+                length += read;
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Compressed data is corrupt", e);
+        }
+        return ByteBuffer.wrap(output, 0, length);
+    }
+
+    private static void skipGzipHeader(ByteBuffer source) throws IOException {
+        if (source.remaining() < 10 || (source.get() & 0xFF) != 0x1F || (source.get() & 0xFF) != 0x8B || source.get() != 8) {
+            throw new IOException("Not gzip data");
+        }
+        int flags = source.get() & 0xFF;
+        source.position(source.position() + 6); // mtime, extra flags and os
+        if ((flags & 4) != 0) {
+            int extra = (source.get() & 0xFF) | (source.get() & 0xFF) << 8;
+            source.position(source.position() + extra);
+        }
+        if ((flags & 8) != 0) while (source.get() != 0) ;
+        if ((flags & 16) != 0) while (source.get() != 0) ;
+        if ((flags & 2) != 0) source.position(source.position() + 2);
+    }
+}
@@ -0,0 +1,20 @@
+package me.txmc.core.antiillegal.offline;
+
+/**
+ * An illegal item or block found by one of the offline scanners
+ *
+ * @param owner The player uuid or region file the finding belongs to
+ * @param location Where in the owner the item was found, e.g. Inventory[12] or EnderItems[3]/Items[0]
+ * @param item The id of the item or block
+ * @param reason The name of the check that failed
+ * @author 0x15d3v2
+ * @since 2026/10/16 4:24 PM
+ * This file was created as a part of 8b8tCore
+ */
+public record Finding(String owner, String location, String item, String reason) {
+
+    @Override
+    public String toString() {
+        return owner + '\t' + location + '\t' + item + '\t' + reason;
+    }
+}
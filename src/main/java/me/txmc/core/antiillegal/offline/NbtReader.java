@@ -0,0 +1,254 @@
+package me.txmc.core.antiillegal.offline;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Forward only reader for uncompressed NBT.
+ *
+ * <p>Tags are read straight out of the buffer in the order they appear. Names are compared in place and
+ * anything that isn't needed is skipped without being decoded, so walking a file only allocates for the
+ * strings that are actually read.</p>
+ *
+ * @author 0x15d3v2
+ * @since 2026/10/16 4:05 PM
+ * This file was created as a part of 8b8tCore
+ */
+public class NbtReader {
+    public static final byte TAG_END = 0;
+    public static final byte TAG_BYTE = 1;
+    public static final byte TAG_SHORT = 2;
+    public static final byte TAG_INT = 3;
+    public static final byte TAG_LONG = 4;
+    public static final byte TAG_FLOAT = 5;
+    public static final byte TAG_DOUBLE = 6;
+    public static final byte TAG_BYTE_ARRAY = 7;
+    public static final byte TAG_STRING = 8;
+    public static final byte TAG_LIST = 9;
+    public static final byte TAG_COMPOUND = 10;
+    public static final byte TAG_INT_ARRAY = 11;
+    public static final byte TAG_LONG_ARRAY = 12;
+
+    private final ByteBuffer buffer;
+    private int nameStart;
+    private int nameLength;
+    private byte listType;
+
+    public NbtReader(ByteBuffer buffer) {
+        this.buffer = buffer.order(ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Reads the header of the root tag
+     * @return The type of the root tag
+     */
+    public byte root() {
+        return next();
+    }
+
+    /**
+     * Reads the header of the next tag in the current compound
+     * @return The type of the tag or {@link #TAG_END} when the compound has no more tags
+     */
+    public byte next() {
+        byte type = buffer.get();
+        if (type != TAG_END) {
+            nameLength = buffer.getShort() & 0xFFFF;
+            nameStart = buffer.position();
+            buffer.position(nameStart + nameLength);
+        }
+        return type;
+    }
+
+    /**
+     * @param name The name encoded as UTF-8, see {@link #key(String)}
+     * @return true if the name of the last tag read by {@link #next()} is the given name
+     */
+    public boolean nameIs(byte[] name) {
+        if (name.length != nameLength) return false;
+        for (int i = 0; i < nameLength; i++) {
+            if (buffer.get(nameStart + i) != name[i]) return false;
+        }
+        return true;
+    }
+
+    public String name() {
+        return decode(nameStart, nameLength);
+    }
+
+    public static byte[] key(String name) {
+        return name.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public byte readByte() {
+        return buffer.get();
+    }
+
+    public short readShort() {
+        return buffer.getShort();
+    }
+
+    public int readInt() {
+        return buffer.getInt();
+    }
+
+    public long readLong() {
+        return buffer.getLong();
+    }
+
+    /**
+     * Reads any numeric tag, item counts and levels are not always stored with the same type
+     */
+    public long readNumber(byte type) {
+        return switch (type) {
+            case TAG_BYTE -> buffer.get();
+            case TAG_SHORT -> buffer.getShort();
+            case TAG_INT -> buffer.getInt();
+            case TAG_LONG -> buffer.getLong();
+            case TAG_FLOAT -> (long) buffer.getFloat();
+            case TAG_DOUBLE -> (long) buffer.getDouble();
+            default -> {
+                skip(type);
+                yield 0;
+            }
+        };
+    }
+
+    public String readString() {
+        int length = buffer.getShort() & 0xFFFF;
+        int start = buffer.position();
+        buffer.position(start + length);
+        return decode(start, length);
+    }
+
+    /**
+     * Reads a string without decoding it
+     * @param candidates Strings encoded as UTF-8, see {@link #key(String)}
+     * @return The index of the candidate the string is equal to or -1
+     */
+    public int readStringMatch(byte[][] candidates) {
+        int length = buffer.getShort() & 0xFFFF;
+        int start = buffer.position();
+        buffer.position(start + length);
+        outer:
+        for (int i = 0; i < candidates.length; i++) {
+            byte[] candidate = candidates[i];
+            if (candidate.length != length) continue;
+            for (int j = 0; j < length; j++) {
+                if (buffer.get(start + j) != candidate[j]) continue outer;
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Reads the header of a list
+     * @return The amount of elements in the list, the type of the elements is available through {@link #listType()}
+     */
+    public int list() {
+        listType = buffer.get();
+        return buffer.getInt();
+    }
+
+    public byte listType() {
+        return listType;
+    }
+
+    /**
+     * Reads the header of an int array or long array
+     * @return The amount of elements in the array
+     */
+    public int arrayLength() {
+        return buffer.getInt();
+    }
+
+    public int position() {
+        return buffer.position();
+    }
+
+    public void position(int position) {
+        buffer.position(position);
+    }
+
+    /**
+     * Gives access to the underlying buffer for callers that scan a payload in place
+     */
+    public ByteBuffer buffer() {
+        return buffer;
+    }
+
+    public void skip(byte type) {
+        switch (type) {
+            case TAG_END -> {
+            }
+            case TAG_BYTE -> advance(1);
+            case TAG_SHORT -> advance(2);
+            case TAG_INT, TAG_FLOAT -> advance(4);
+            case TAG_LONG, TAG_DOUBLE -> advance(8);
+            case TAG_BYTE_ARRAY -> advance(buffer.getInt());
+            case TAG_INT_ARRAY -> advance(buffer.getInt() * 4L);
+            case TAG_LONG_ARRAY -> advance(buffer.getInt() * 8L);
+            case TAG_STRING -> advance(buffer.getShort() & 0xFFFF);
+            case TAG_LIST -> {
+                byte elementType = buffer.get();
+                int length = buffer.getInt();
+                skipElements(elementType, length);
+            }
+            case TAG_COMPOUND -> {
+                byte next;
+                while ((next = next()) != TAG_END) skip(next);
+            }
+            default -> throw new IllegalStateException("Unknown tag type " + type + " at " + buffer.position());
+        }
+    }
+
+    /**
+     * Skips the remaining elements of a list
+     */
+    public void skipElements(byte elementType, int count) {
+        switch (elementType) {
+            case TAG_END -> {
+            }
+            case TAG_BYTE -> advance(count);
+            case TAG_SHORT -> advance(count * 2L);
+            case TAG_INT, TAG_FLOAT -> advance(count * 4L);
+            case TAG_LONG, TAG_DOUBLE -> advance(count * 8L);
+            default -> {
+                for (int i = 0; i < count; i++) skip(elementType);
+            }
+        }
+    }
+
+    private void advance(long bytes) {
+        if (bytes < 0 || bytes > buffer.remaining()) throw new IllegalStateException("Tag runs past the end of the data at " + buffer.position());
+        buffer.position(buffer.position() + (int) bytes);
+    }
+
+    /**
+     * Decodes java's modified UTF-8, which is what NBT strings are stored as
+     */
+    private String decode(int start, int length) {
+        char[] chars = new char[length];
+        int count = 0;
+        int end = start + length;
+        for (int i = start; i < end; ) {
+            int b = buffer.get(i) & 0xFF;
+            if (b < 0x80) {
+                chars[count++] = (char) b;
+                i++;
+            } else if ((b & 0xE0) == 0xC0 && i + 1 < end) {
+                chars[count++] = (char) (((b & 0x1F) << 6) | (buffer.get(i + 1) & 0x3F));
+                i += 2;
+            } else if ((b & 0xF0) == 0xE0 && i + 2 < end) {
+                chars[count++] = (char) (((b & 0x0F) << 12) | ((buffer.get(i + 1) & 0x3F) << 6) | (buffer.get(i + 2) & 0x3F));
+                i += 3;
+            } else {
+                chars[count++] = '\uFFFD';
+                i++;
+            }
+        }
+        return new String(chars, 0, count);
+    }
+}
@@ -0,0 +1,351 @@
+package me.txmc.core.antiillegal.offline;
+
+import me.txmc.core.antiillegal.check.checks.BookCheck;
+import me.txmc.core.antiillegal.check.checks.IllegalItemCheck;
+import me.txmc.core.antiillegal.check.checks.ItemSizeCheck;
+import me.txmc.core.antiillegal.check.checks.NameCheck;
+import me.txmc.core.antiillegal.check.checks.PotionCheck;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.bukkit.Material;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+import static me.txmc.core.antiillegal.offline.NbtReader.*;
+
+/**
+ * The anti-illegal checks applied to items that are still in their NBT form.
+ *
+ * <p>Every rule mirrors one of the checks used while the server is running and is reported under that
+ * check's name, so the offline reports read the same as the metrics and {@code DisabledChecks} applies
+ * to both. Nothing here needs a running server, the max enchantment levels are handed in by the caller.</p>
+ *
+ * @author 0x15d3v2
+ * @since 2026/10/16 4:40 PM
+ * This file was created as a part of 8b8tCore
+ */
+public class OfflineItemRules {
+    private static final byte[] ID = key("id");
+    private static final byte[] COUNT = key("Count");
+    private static final byte[] SLOT = key("Slot");
+    private static final byte[] TAG = key("tag");
+    private static final byte[] ENCHANTMENTS = key("Enchantments");
+    private static final byte[] LEVEL = key("lvl");
+    private static final byte[] UNBREAKABLE = key("Unbreakable");
+    private static final byte[] DAMAGE = key("Damage");
+    private static final byte[] ATTRIBUTE_MODIFIERS = key("AttributeModifiers");
+    private static final byte[] HIDE_FLAGS = key("HideFlags");
+    private static final byte[] DISPLAY = key("display");
+    private static final byte[] NAME = key("Name");
+    private static final byte[] LORE = key("Lore");
+    private static final byte[] PAGES = key("pages");
+    private static final byte[] CUSTOM_POTION_EFFECTS = key("CustomPotionEffects");
+    private static final byte[] CUSTOM_POTION_EFFECTS_SNAKE = key("custom_potion_effects");
+    private static final byte[] AMPLIFIER = key("Amplifier");
+    private static final byte[] AMPLIFIER_SNAKE = key("amplifier");
+    private static final byte[] DURATION = key("Duration");
+    private static final byte[] DURATION_SNAKE = key("duration");
+    private static final byte[] BLOCK_ENTITY_TAG = key("BlockEntityTag");
+    private static final byte[] ITEMS = key("Items");
+
+    private static final int INVALID = -1;
+
+    private final IllegalItemCheck illegalItems;
+    private final ToIntFunction<String> maxEnchantLevel;
+    private final Set<String> disabled;
+    private final int maxPages;
+    private final int maxPageBytes;
+    private final int maxBookBytes;
+    private final boolean containers;
+    private final int maxDepth;
+    private final int maxItems;
+    /**
+     * The ItemSizeCheck limit, or max int while that check is turned off
+     */
+    private final int maxItemSize;
+
+    /**
+     * @param config The AntiIllegal section of the config
+     * @param maxEnchantLevel Returns the max level of an enchantment by its namespaced id
+     */
+    public OfflineItemRules(ConfigurationSection config, ToIntFunction<String> maxEnchantLevel) {
+        this.illegalItems = new IllegalItemCheck(config);
+        this.maxEnchantLevel = maxEnchantLevel;
+        this.disabled = new HashSet<>(config.getStringList("DisabledChecks"));
+        this.maxPages = BookCheck.maxPages(config);
+        this.maxPageBytes = BookCheck.maxPageBytes(config);
+        this.maxBookBytes = BookCheck.maxBookBytes(config);
+        this.containers = config.getBoolean("Containers.Enabled", true);
+        this.maxDepth = config.getInt("Containers.MaxDepth", 2);
+        this.maxItems = config.getInt("Containers.MaxItems", 1024);
+        this.maxItemSize = ItemSizeCheck.isEnabled(config) ? ItemSizeCheck.maxSize(config) : Integer.MAX_VALUE;
+    }
+
+    /**
+     * @param owner The player or region the scanned items belong to
+     * @return A scan to feed the items of one owner to, not safe to share between threads
+     */
+    public Scan scan(String owner) {
+        return new Scan(owner);
+    }
+
+    public class Scan {
+        private final String owner;
+        private final List<Finding> findings = new ArrayList<>();
+        private int budget;
+
+        private Scan(String owner) {
+            this.owner = owner;
+        }
+
+        public List<Finding> findings() {
+            return findings;
+        }
+
+        public void report(String location, String item, String reason) {
+            if (disabled.contains(reason)) return;
+            for (int i = findings.size() - 1; i >= 0; i--) {
+                Finding finding = findings.get(i);
+                if (!finding.location().equals(location)) break;
+                if (finding.reason().equals(reason)) return;
+            }
+            findings.add(new Finding(owner, location, item, reason));
+        }
+
+        /**
+         * Checks a list of item compounds
+         * @param reader The reader positioned right after the list header
+         * @param count The amount of items in the list
+         * @param location The name of the list, e.g. Inventory
+         */
+        public void checkItems(NbtReader reader, int count, String location) {
+            for (int i = 0; i < count; i++) {
+                budget = maxItems;
+                checkItem(reader, location, i, 0);
+            }
+        }
+
+        private void checkItem(NbtReader reader, String parent, int index, int depth) {
+            int start = reader.position();
+            String id = null;
+            int count = 1;
+            int slot = index;
+            int tagStart = -1;
+            byte type;
+            while ((type = reader.next()) != TAG_END) {
+                if (type == TAG_STRING && reader.nameIs(ID)) id = reader.readString();
+                else if (reader.nameIs(COUNT)) count = (int) reader.readNumber(type);
+                else if (reader.nameIs(SLOT)) slot = (int) reader.readNumber(type);
+                else if (type == TAG_COMPOUND && reader.nameIs(TAG)) {
+                    tagStart = reader.position();
+                    reader.skip(type);
+                } else reader.skip(type);
+            }
+            int end = reader.position();
+            if (id == null) return;
+            Material material = Material.matchMaterial(id);
+            if (material == null || material.isAir()) return;
+
+            String location = parent + '[' + slot + ']';
+            if (illegalItems.appliesTo(material)) report(location, id, "IllegalItemCheck");
+            if (count > material.getMaxStackSize()) report(location, id, "OverStackCheck");
+            if (tagStart < 0) return;
+
+            reader.position(tagStart);
+            boolean blockEntity = false;
+            while ((type = reader.next()) != TAG_END) {
+                if (type == TAG_LIST && reader.nameIs(ENCHANTMENTS)) checkEnchantments(reader, material, location, id);
+                else if (reader.nameIs(UNBREAKABLE)) {
+                    if (reader.readNumber(type) != 0) report(location, id, "DurabilityCheck");
+                } else if (reader.nameIs(DAMAGE)) {
+                    if (reader.readNumber(type) < 0) report(location, id, "DurabilityCheck");
+                } else if (type == TAG_LIST && reader.nameIs(ATTRIBUTE_MODIFIERS)) {
+                    int modifiers = reader.list();
+                    reader.skipElements(reader.listType(), modifiers);
+                    if (modifiers > 0) report(location, id, "AttributeCheck");
+                } else if (reader.nameIs(HIDE_FLAGS)) {
+                    if (reader.readNumber(type) != 0) report(location, id, "AttributeCheck");
+                } else if (type == TAG_COMPOUND && reader.nameIs(DISPLAY)) checkDisplay(reader, location, id);
+                else if (type == TAG_LIST && isPotion(material) && (reader.nameIs(CUSTOM_POTION_EFFECTS) || reader.nameIs(CUSTOM_POTION_EFFECTS_SNAKE))) {
+                    checkPotionEffects(reader, location, id);
+                } else if (type == TAG_LIST && isBook(material) && reader.nameIs(PAGES)) {
+                    checkPages(reader, material == Material.WRITTEN_BOOK, location, id);
+                } else if (type == TAG_COMPOUND && reader.nameIs(BLOCK_ENTITY_TAG)) {
+                    blockEntity = true;
+                    checkBlockEntity(reader, location, id, depth);
+                } else reader.skip(type);
+            }
+            if (blockEntity && end - start > maxItemSize) report(location, id, "ItemSizeCheck");
+            reader.position(end);
+        }
+
+        private void checkEnchantments(NbtReader reader, Material material, String location, String id) {
+            int count = reader.list();
+            if (reader.listType() != TAG_COMPOUND) {
+                reader.skipElements(reader.listType(), count);
+                return;
+            }
+            if (count > 0 && material.isBlock()) report(location, id, "EnchantCheck");
+            for (int i = 0; i < count; i++) {
+                String enchantment = null;
+                long level = 0;
+                byte type;
+                while ((type = reader.next()) != TAG_END) {
+                    if (type == TAG_STRING && reader.nameIs(ID)) enchantment = reader.readString();
+                    else if (reader.nameIs(LEVEL)) level = reader.readNumber(type);
+                    else reader.skip(type);
+                }
+                if (enchantment != null && level > maxEnchantLevel.applyAsInt(enchantment)) report(location, id, "EnchantCheck");
+            }
+        }
+
+        private void checkDisplay(NbtReader reader, String location, String id) {
+            byte type;
+            while ((type = reader.next()) != TAG_END) {
+                if (type == TAG_STRING && reader.nameIs(NAME)) {
+                    if (isLongPlainName(reader.readString())) report(location, id, "NameCheck");
+                } else if (type == TAG_LIST && reader.nameIs(LORE)) {
+                    int lines = reader.list();
+                    reader.skipElements(reader.listType(), lines);
+                    if (lines > 0) report(location, id, "LoreCheck");
+                } else reader.skip(type);
+            }
+        }
+
+        private void checkPotionEffects(NbtReader reader, String location, String id) {
+            int count = reader.list();
+            if (reader.listType() != TAG_COMPOUND) {
+                reader.skipElements(reader.listType(), count);
+                return;
+            }
+            for (int i = 0; i < count; i++) {
+                byte type;
+                while ((type = reader.next()) != TAG_END) {
+                    if (reader.nameIs(AMPLIFIER) || reader.nameIs(AMPLIFIER_SNAKE)) {
+                        if (reader.readNumber(type) > PotionCheck.MAX_LEGAL_AMPLIFIER) report(location, id, "PotionCheck");
+                    } else if (reader.nameIs(DURATION) || reader.nameIs(DURATION_SNAKE)) {
+                        if (reader.readNumber(type) > PotionCheck.MAX_LEGAL_DURATION) report(location, id, "PotionCheck");
+                    } else reader.skip(type);
+                }
+            }
+        }
+
+        private void checkPages(NbtReader reader, boolean json, String location, String id) {
+            int count = reader.list();
+            if (reader.listType() != TAG_STRING || count > maxPages) {
+                reader.skipElements(reader.listType(), count);
+                if (count > maxPages) report(location, id, "BookCheck");
+                return;
+            }
+            int total = 0;
+            boolean failed = false;
+            ByteBuffer buffer = reader.buffer();
+            for (int i = 0; i < count; i++) {
+                int length = reader.readShort() & 0xFFFF;
+                int start = reader.position();
+                reader.position(start + length);
+                if (failed) continue;
+                int size = scanPage(buffer, start, length, json, Math.min(maxPageBytes, maxBookBytes - total));
+                if (size == INVALID) failed = true;
+                else total += size;
+            }
+            if (failed) report(location, id, "BookCheck");
+        }
+
+        private void checkBlockEntity(NbtReader reader, String location, String id, int depth) {
+            byte type;
+            while ((type = reader.next()) != TAG_END) {
+                if (type != TAG_LIST || !containers || !reader.nameIs(ITEMS)) {
+                    reader.skip(type);
+                    continue;
+                }
+                int count = reader.list();
+                if (reader.listType() != TAG_COMPOUND || depth >= maxDepth) {
+                    reader.skipElements(reader.listType(), count);
+                    if (count > 0 && depth >= maxDepth) report(location, id, "ContainerVisitor");
+                    continue;
+                }
+                for (int i = 0; i < count; i++) {
+                    if (--budget < 0) {
+                        reader.skip(TAG_COMPOUND);
+                        report(location, id, "ContainerVisitor");
+                        continue;
+                    }
+                    checkItem(reader, location + "/Items", i, depth + 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Same rules as the online BookCheck, applied to the modified UTF-8 bytes of a page in place
+     * @return The UTF-8 size of the page or {@link #INVALID}
+     */
+    private static int scanPage(ByteBuffer buffer, int start, int length, boolean json, int budget) {
+        int end = start + length;
+        int used = 0;
+        for (int i = start; i < end; ) {
+            int b = buffer.get(i) & 0xFF;
+            if (b < 0x80) {
+                // Written books store json which may escape characters
+                if (json && b == '\\' && i + 5 < end && buffer.get(i + 1) == 'u') {
+                    int c = hex(buffer, i + 2);
+                    if (c < 0 || c > 0xFF) return INVALID;
+                    used += c < 0x80 ? 1 : 2;
+                    i += 6;
+                } else {
+                    used++;
+                    i++;
+                }
+            } else if ((b & 0xE0) == 0xC0 && (b & 0x1F) <= 3) {
+                used += 2;
+                i += 2;
+            } else return INVALID;
+            if (used > budget) return INVALID;
+        }
+        return used;
+    }
+
+    private static int hex(ByteBuffer buffer, int start) {
+        int value = 0;
+        for (int i = start; i < start + 4; i++) {
+            int digit = Character.digit(buffer.get(i), 16);
+            if (digit < 0) return -1;
+            value = value << 4 | digit;
+        }
+        return value;
+    }
+
+    private static boolean isLongPlainName(String json) {
+        Component name;
+        try {
+            name = GsonComponentSerializer.gson().deserialize(json);
+        } catch (RuntimeException e) {
+            name = Component.text(json);
+        }
+        if (name.hasStyling()) return false;
+        for (TextDecoration decoration : TextDecoration.values()) {
+            if (name.hasDecoration(decoration)) return false;
+        }
+        return PlainTextComponentSerializer.plainText().serialize(name).length() > NameCheck.MAX_NAME_LENGTH;
+    }
+
+    private static boolean isPotion(Material material) {
+        return switch (material) {
+            case POTION, SPLASH_POTION, LINGERING_POTION, TIPPED_ARROW -> true;
+            default -> false;
+        };
+    }
+
+    private static boolean isBook(Material material) {
+        return material == Material.WRITTEN_BOOK || material == Material.WRITABLE_BOOK;
+    }
+}
@@ -0,0 +1,173 @@
+package me.txmc.core.antiillegal.offline;
+
+import me.txmc.core.antiillegal.AntiIllegalMain;
+import me.txmc.core.antiillegal.listeners.IllegalBlocksCleaner;
+import me.txmc.core.util.GlobalUtils;
+import org.bukkit.Bukkit;
+import org.bukkit.Registry;
+import org.bukkit.World;
+import org.bukkit.command.CommandSender;
+import org.bukkit.enchantments.Enchantment;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.ToIntFunction;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+
+import static me.txmc.core.util.GlobalUtils.sendMessage;
+
+/**
+ * Starts the offline scans and writes their reports to {@code plugins/8b8tCore/reports}.
+ *
+ * <p>Only one scan runs at a time and it runs on its own thread, the sender is told when it is done.</p>
+ *
+ * @author 0x15d3v2
+ * @since 2026/10/16 5:20 PM
+ * This file was created as a part of 8b8tCore
+ */
+public class OfflineScanService {
+    private final AntiIllegalMain main;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public OfflineScanService(AntiIllegalMain main) {
+        this.main = main;
+    }
+
+    public void scanPlayers(CommandSender sender) {
+        if (!running.compareAndSet(false, true)) {
+            sendMessage(sender, "&cAn offline scan is already running");
+            return;
+        }
+        Path directory = Bukkit.getWorlds().get(0).getWorldFolder().toPath().resolve("playerdata");
+        Set<String> online = Bukkit.getOnlinePlayers().stream().map(p -> p.getUniqueId().toString()).collect(Collectors.toSet());
+        PlayerDataScanner scanner = new PlayerDataScanner(rules(), parallelism());
+        sendMessage(sender, "&3Scanning&r&a %s&r&3, online players are skipped", directory);
+
+        Thread thread = new Thread(() -> {
+            try {
+                PlayerDataScanner.Result result = scanner.scan(directory, online);
+                File report = writeReport("playerdata", result.findings());
+                sendMessage(sender, "&3Scanned&r&a %d&r&3 players in&r&a %dms&r&3, found&r&a %d&r&3 illegal items. Report written to&r&a %s",
+                        result.files(), result.millis(), result.findings().size(), report.getName());
+            } catch (Exception e) {
+                GlobalUtils.log(Level.SEVERE, "Failed to scan player data. %s", e);
+                sendMessage(sender, "&cThe player data scan failed, see the console for details");
+            } finally {
+                running.set(false);
+            }
+        }, "8b8tCore-PlayerDataScan");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * @param worldName The world to scan, the main world when null
+     */
+    public void scanRegions(CommandSender sender, String worldName) {
+        World world = worldName == null ? Bukkit.getWorlds().get(0) : Bukkit.getWorld(worldName);
+        if (world == null) {
+            sendMessage(sender, "&cThere is no world called&r&a %s", worldName);
+            return;
+        }
+        if (!running.compareAndSet(false, true)) {
+            sendMessage(sender, "&cAn offline scan is already running");
+            return;
+        }
+        Path directory = regionFolder(world);
+        RegionScanner.Dimension dimension = new RegionScanner.Dimension(world.getUID(), world.getMinHeight(), IllegalBlocksCleaner.upperLimit(world));
+        RegionScanner scanner = new RegionScanner(rules(), parallelism());
+        sendMessage(sender, "&3Scanning&r&a %s&r&3, illegal blocks are removed when their chunk loads", directory);
+
+        Thread thread = new Thread(() -> {
+            File report = reportFile("regions-" + world.getName());
+            try (BufferedWriter writer = openReport(report)) {
+                RegionScanner.Result result = scanner.scan(directory, dimension, main.pendingFixes(), findings -> {
+                    synchronized (writer) {
+                        try {
+                            for (Finding finding : findings) {
+                                writer.write(finding.toString());
+                                writer.newLine();
+                            }
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }
+                });
+                sendMessage(sender, "&3Scanned&r&a %d&r&3 chunks in&r&a %d&r&3 region files in&r&a %dms&r&3, found&r&a %d&r&3 problems. Report written to&r&a %s",
+                        result.chunks(), result.regions(), result.millis(), result.findings(), report.getName());
+                sendMessage(sender, "&a%d&r&3 chunks are waiting to be cleaned", main.pendingFixes().size());
+                if (result.skipped() > 0) {
+                    sendMessage(sender, "&c%d chunks are older than 1.18 and were not checked, see the report", result.skipped());
+                }
+                if (result.dropped() > 0) {
+                    sendMessage(sender, "&c%d chunks with illegal blocks were not queued, the pending fix limit has been reached", result.dropped());
+                }
+            } catch (Exception e) {
+                GlobalUtils.log(Level.SEVERE, "Failed to scan the region files of %s. %s", world.getName(), e);
+                sendMessage(sender, "&cThe region scan failed, see the console for details");
+            } finally {
+                running.set(false);
+            }
+        }, "8b8tCore-RegionScan");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private Path regionFolder(World world) {
+        Path folder = world.getWorldFolder().toPath();
+        return switch (world.getEnvironment()) {
+            case NETHER -> folder.resolve("DIM-1").resolve("region");
+            case THE_END -> folder.resolve("DIM1").resolve("region");
+            default -> folder.resolve("region");
+        };
+    }
+
+    private OfflineItemRules rules() {
+        Map<String, Integer> levels = new HashMap<>();
+        for (Enchantment enchantment : Registry.ENCHANTMENT) levels.put(enchantment.getKey().toString(), enchantment.getMaxLevel());
+        ToIntFunction<String> maxLevel = id -> levels.getOrDefault(id.indexOf(':') < 0 ? "minecraft:" + id : id, Integer.MAX_VALUE);
+        return new OfflineItemRules(main.config(), maxLevel);
+    }
+
+    private int parallelism() {
+        int parallelism = main.config().getInt("OfflineScan.Threads", 0);
+        return parallelism > 0 ? parallelism : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+
+    private File writeReport(String kind, List<Finding> findings) throws IOException {
+        File report = reportFile(kind);
+        try (BufferedWriter writer = openReport(report)) {
+            for (Finding finding : findings) {
+                writer.write(finding.toString());
+                writer.newLine();
+            }
+        }
+        return report;
+    }
+
+    private File reportFile(String kind) {
+        File directory = new File(main.plugin().getDataFolder(), "reports");
+        if (!directory.exists()) directory.mkdirs();
+        return new File(directory, String.format("%s-%s.tsv", kind, new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date())));
+    }
+
+    private BufferedWriter openReport(File report) throws IOException {
+        BufferedWriter writer = Files.newBufferedWriter(report.toPath(), StandardCharsets.UTF_8);
+        writer.write("owner\tlocation\titem\treason");
+        writer.newLine();
+        return writer;
+    }
+}
@@ -0,0 +1,51 @@
+package me.txmc.core.antiillegal.offline;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Illegal block positions found by the region scanner, waiting for their chunk to load.
+ *
+ * <p>Positions are packed the same way the IllegalBlocksCleaner packs them, x | z << 4 | (y - minY) << 8.
+ * The amount of chunks kept is bounded, chunks found once the limit is reached are only reported.</p>
+ *
+ * @author 0x15d3v2
+ * @since 2026/10/16 5:50 PM
+ * This file was created as a part of 8b8tCore
+ */
+public class PendingBlockFixes {
+    private final Map<UUID, Map<Long, int[]>> worlds = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private volatile int maxChunks = 100_000;
+
+    public void maxChunks(int maxChunks) {
+        this.maxChunks = maxChunks;
+    }
+
+    /**
+     * @return false if the limit has been reached and the fix was not kept
+     */
+    public boolean add(UUID world, long chunkKey, int[] positions) {
+        if (size.get() >= maxChunks) return false;
+        if (worlds.computeIfAbsent(world, w -> new ConcurrentHashMap<>()).put(chunkKey, positions) == null) size.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * @return The pending positions of the chunk or null if there are none, they are no longer pending afterward
+     */
+    public int[] take(UUID world, long chunkKey) {
+        if (size.get() == 0) return null;
+        Map<Long, int[]> chunks = worlds.get(world);
+        if (chunks == null) return null;
+        int[] positions = chunks.remove(chunkKey);
+        if (positions != null) size.decrementAndGet();
+        return positions;
+    }
+
+    public int size() {
+        return size.get();
+    }
+}
@@ -0,0 +1,95 @@
+package me.txmc.core.antiillegal.offline;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import static me.txmc.core.antiillegal.offline.NbtReader.*;
+
+/**
+ * Checks the inventories and ender chests stored in {@code playerdata/*.dat} without loading the players.
+ *
+ * <p>Files are read, inflated and walked in parallel on a dedicated fork join pool, so a scan never runs on a
+ * server thread. A file that can't be read is reported instead of failing the whole scan.</p>
+ *
+ * @author 0x15d3v2
+ * @since 2026/10/16 5:05 PM
+ * This file was created as a part of 8b8tCore
+ */
+public class PlayerDataScanner {
+    private static final byte[] INVENTORY = key("Inventory");
+    private static final byte[] ENDER_ITEMS = key("EnderItems");
+    private final OfflineItemRules rules;
+    private final int parallelism;
+
+    public PlayerDataScanner(OfflineItemRules rules, int parallelism) {
+        this.rules = rules;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * @param directory The playerdata folder of the main world
+     * @param skip The uuids of the files to skip, e.g. online players whose files are out of date
+     */
+    public Result scan(Path directory, Set<String> skip) throws IOException, InterruptedException {
+        long start = System.currentTimeMillis();
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream.filter(file -> file.getFileName().toString().endsWith(".dat"))
+                    .filter(file -> !skip.contains(owner(file)))
+                    .toList();
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<Finding> findings = pool.submit(() -> files.parallelStream()
+                    .flatMap(file -> scanFile(file).stream())
+                    .toList()).get();
+            return new Result(files.size(), findings, System.currentTimeMillis() - start);
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to scan " + directory, e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public List<Finding> scanFile(Path file) {
+        String owner = owner(file);
+        OfflineItemRules.Scan scan = rules.scan(owner);
+        try {
+            ByteBuffer data = Compression.inflate(Compression.readFile(file), Compression.GZIP);
+            NbtReader reader = new NbtReader(data);
+            if (reader.root() != TAG_COMPOUND) throw new IOException("Root tag is not a compound");
+            byte type;
+            while ((type = reader.next()) != TAG_END) {
+                if (type == TAG_LIST && (reader.nameIs(INVENTORY) || reader.nameIs(ENDER_ITEMS))) {
+                    String name = reader.name();
+                    int count = reader.list();
+                    if (reader.listType() == TAG_COMPOUND) scan.checkItems(reader, count, name);
+                    else reader.skipElements(reader.listType(), count);
+                } else reader.skip(type);
+            }
+        } catch (IOException | RuntimeException e) {
+            return List.of(new Finding(owner, "", "", "Unreadable: " + e.getMessage()));
+        }
+        return scan.findings();
+    }
+
+    private static String owner(Path file) {
+        String name = file.getFileName().toString();
+        return name.endsWith(".dat") ? name.substring(0, name.length() - 4) : name;
+    }
+
+    /**
+     * @param files The amount of files scanned
+     * @param findings Everything that was found
+     * @param millis How long the scan took
+     */
+    public record Result(int files, List<Finding> findings, long millis) {
+    }
+}
@@ -0,0 +1,346 @@
+package me.txmc.core.antiillegal.offline;
+
+import me.txmc.core.antiillegal.listeners.IllegalBlocksCleaner;
+import me.txmc.core.util.ChunkKeys;
+import org.bukkit.Material;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static me.txmc.core.antiillegal.offline.NbtReader.*;
+
+/**
+ * Checks the block palettes and container contents stored in anvil region files without loading the chunks.
+ *
+ * <p>Region files are memory mapped and scanned in parallel on a dedicated fork join pool, one file per task,
+ * so memory use is bounded by the thread count rather than the size of the world. Only sections whose palette
+ * holds a block the IllegalBlocksCleaner would remove are decoded. Blocks are judged by the cleaner's rules,
+ * not IllegalItems, since that list also holds blocks that generate naturally.</p>
+ *
+ * <p>Illegal block positions are handed to {@link PendingBlockFixes} so they are removed once the chunk
+ * loads. Illegal items in containers are only reported, they are fixed by the online checks when opened.</p>
+ *
+ * <p>Only the chunk format used since 1.18 is read. Older chunks keep their data under {@code Level} in a
+ * different layout, they are counted as skipped and reported per region file instead of being passed as clean.
+ * They are converted to the current format the next time the server loads them.</p>
+ *
+ * @author 0x15d3v2
+ * @since 2026/10/16 6:10 PM
+ * This file was created as a part of 8b8tCore
+ */
+public class RegionScanner {
+    private static final int SECTOR = 4096;
+    /**
+     * The first data version that stores sections and block entities in the root of the chunk, 21w43a
+     */
+    private static final int FLAT_CHUNK_VERSION = 2844;
+    private static final byte[] DATA_VERSION = key("DataVersion");
+    private static final byte[] LEVEL = key("Level");
+    private static final byte[] SECTIONS = key("sections");
+    private static final byte[] BLOCK_ENTITIES = key("block_entities");
+    private static final byte[] SECTION_Y = key("Y");
+    private static final byte[] BLOCK_STATES = key("block_states");
+    private static final byte[] PALETTE = key("palette");
+    private static final byte[] DATA = key("data");
+    private static final byte[] NAME = key("Name");
+    private static final byte[] ITEMS = key("Items");
+    private static final byte[] X = key("x");
+    private static final byte[] Y = key("y");
+    private static final byte[] Z = key("z");
+
+    private final OfflineItemRules rules;
+    private final int parallelism;
+    private final Material[] blocks;
+    private final byte[][] blockKeys;
+
+    public RegionScanner(OfflineItemRules rules, int parallelism) {
+        this.rules = rules;
+        this.parallelism = Math.max(1, parallelism);
+        blocks = Arrays.stream(Material.values())
+                .filter(material -> !material.isLegacy() && material.isBlock() && IllegalBlocksCleaner.canBeIllegal(material))
+                .toArray(Material[]::new);
+        blockKeys = Arrays.stream(blocks).map(material -> key(material.getKey().toString())).toArray(byte[][]::new);
+    }
+
+    /**
+     * @param directory The region folder of the dimension
+     * @param dimension The world the region files belong to
+     * @param fixes Where to queue the illegal blocks that are found
+     * @param sink Receives the findings of each region file, called from the scanning threads
+     */
+    public Result scan(Path directory, Dimension dimension, PendingBlockFixes fixes, Consumer<List<Finding>> sink) throws IOException, InterruptedException {
+        long start = System.currentTimeMillis();
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream.filter(file -> file.getFileName().toString().endsWith(".mca")).toList();
+        }
+        Counters counters = new Counters();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.submit(() -> files.parallelStream().forEach(file -> {
+                List<Finding> findings = scanRegion(file, dimension, fixes, counters);
+                counters.findings.add(findings.size());
+                if (!findings.isEmpty()) sink.accept(findings);
+            })).get();
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to scan " + directory, e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+        return new Result(files.size(), counters.chunks.sum(), counters.skipped.sum(), counters.findings.sum(), counters.queued.sum(), counters.dropped.sum(), System.currentTimeMillis() - start);
+    }
+
+    private List<Finding> scanRegion(Path file, Dimension dimension, PendingBlockFixes fixes, Counters counters) {
+        String name = file.getFileName().toString();
+        OfflineItemRules.Scan scan = rules.scan(name);
+        String[] parts = name.split("\\.");
+        int regionX, regionZ;
+        try {
+            regionX = Integer.parseInt(parts[1]);
+            regionZ = Integer.parseInt(parts[2]);
+        } catch (RuntimeException e) {
+            scan.report("", "", "Unreadable: not a region file name");
+            return scan.findings();
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < SECTOR * 2L) return scan.findings();
+            MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            Hits hits = new Hits(blocks.length);
+            int skipped = 0;
+            for (int i = 0; i < 1024; i++) {
+                int location = region.getInt(i * 4);
+                if (location == 0) continue;
+                int chunkX = regionX * 32 + (i & 31);
+                int chunkZ = regionZ * 32 + (i >> 5);
+                try {
+                    ByteBuffer data = chunkData(file, region, location, chunkX, chunkZ);
+                    hits.clear();
+                    if (!scanChunk(new NbtReader(data), dimension, scan, hits)) {
+                        skipped++;
+                        continue;
+                    }
+                    counters.chunks.increment();
+                    if (hits.count == 0) continue;
+                    String chunk = "chunk " + chunkX + "," + chunkZ;
+                    for (int block = 0; block < blocks.length; block++) {
+                        if (hits.perBlock[block] > 0) scan.report(chunk, blocks[block].getKey().toString(), "IllegalBlocksCleaner x" + hits.perBlock[block]);
+                    }
+                    if (fixes.add(dimension.world(), ChunkKeys.chunkKey(chunkX, chunkZ), Arrays.copyOf(hits.positions, hits.count))) counters.queued.increment();
+                    else counters.dropped.increment();
+                } catch (IOException | RuntimeException e) {
+                    scan.report("chunk " + chunkX + "," + chunkZ, "", "Unreadable: " + e.getMessage());
+                }
+            }
+            if (skipped > 0) {
+                counters.skipped.add(skipped);
+                scan.report("", "", "Skipped: " + skipped + " chunks are older than 1.18 and were not checked");
+            }
+        } catch (IOException e) {
+            scan.report("", "", "Unreadable: " + e.getMessage());
+        }
+        return scan.findings();
+    }
+
+    private ByteBuffer chunkData(Path file, MappedByteBuffer region, int location, int chunkX, int chunkZ) throws IOException {
+        long offset = (long) (location >>> 8) * SECTOR;
+        if (offset + 5 > region.capacity()) throw new IOException("Chunk starts past the end of the file");
+        int length = region.getInt((int) offset);
+        int compression = region.get((int) offset + 4);
+        // Chunks too large for the region file are stored next to it
+        if ((compression & 0x80) != 0) {
+            ByteBuffer external = Compression.readFile(file.resolveSibling("c." + chunkX + "." + chunkZ + ".mcc"));
+            return Compression.inflate(external, compression & 0x7F);
+        }
+        if (length <= 1 || offset + 4 + length > region.capacity()) throw new IOException("Chunk runs past the end of the file");
+        return Compression.inflate(region.slice((int) offset + 5, length - 1), compression);
+    }
+
+    /**
+     * @return Whether the chunk is in the 1.18 format, if it isn't the findings and hits must be ignored
+     */
+    private boolean scanChunk(NbtReader reader, Dimension dimension, OfflineItemRules.Scan scan, Hits hits) throws IOException {
+        if (reader.root() != TAG_COMPOUND) throw new IOException("Root tag is not a compound");
+        // Chunks from before 1.9 have no data version at all
+        int dataVersion = -1;
+        boolean level = false;
+        byte type;
+        while ((type = reader.next()) != TAG_END) {
+            if (type == TAG_INT && reader.nameIs(DATA_VERSION)) dataVersion = (int) reader.readNumber(type);
+            else if (type == TAG_COMPOUND && reader.nameIs(LEVEL)) {
+                level = true;
+                reader.skip(type);
+            } else if (type == TAG_LIST && reader.nameIs(SECTIONS)) {
+                int count = reader.list();
+                if (reader.listType() != TAG_COMPOUND) reader.skipElements(reader.listType(), count);
+                else for (int i = 0; i < count; i++) scanSection(reader, dimension, hits);
+            } else if (type == TAG_LIST && reader.nameIs(BLOCK_ENTITIES)) {
+                int count = reader.list();
+                if (reader.listType() != TAG_COMPOUND) reader.skipElements(reader.listType(), count);
+                else for (int i = 0; i < count; i++) scanBlockEntity(reader, scan);
+            } else reader.skip(type);
+        }
+        return !level && dataVersion >= FLAT_CHUNK_VERSION;
+    }
+
+    private void scanSection(NbtReader reader, Dimension dimension, Hits hits) {
+        int sectionY = Integer.MIN_VALUE;
+        int statesStart = -1;
+        byte type;
+        while ((type = reader.next()) != TAG_END) {
+            if (reader.nameIs(SECTION_Y)) sectionY = (int) reader.readNumber(type);
+            else if (type == TAG_COMPOUND && reader.nameIs(BLOCK_STATES)) {
+                statesStart = reader.position();
+                reader.skip(type);
+            } else reader.skip(type);
+        }
+        int baseY = sectionY << 4;
+        if (statesStart < 0 || sectionY == Integer.MIN_VALUE || baseY >= dimension.maxY() || baseY + 16 <= dimension.minY()) return;
+
+        int end = reader.position();
+        reader.position(statesStart);
+        int paletteSize = 0;
+        int[] illegal = null;
+        int dataStart = -1;
+        int dataLength = 0;
+        while ((type = reader.next()) != TAG_END) {
+            if (type == TAG_LIST && reader.nameIs(PALETTE)) {
+                paletteSize = reader.list();
+                if (reader.listType() != TAG_COMPOUND) {
+                    reader.skipElements(reader.listType(), paletteSize);
+                    continue;
+                }
+                for (int entry = 0; entry < paletteSize; entry++) {
+                    byte entryType;
+                    while ((entryType = reader.next()) != TAG_END) {
+                        if (entryType != TAG_STRING || !reader.nameIs(NAME)) {
+                            reader.skip(entryType);
+                            continue;
+                        }
+                        int block = reader.readStringMatch(blockKeys);
+                        if (block < 0) continue;
+                        if (illegal == null) {
+                            illegal = new int[paletteSize];
+                            Arrays.fill(illegal, -1);
+                        }
+                        illegal[entry] = block;
+                    }
+                }
+            } else if (type == TAG_LONG_ARRAY && reader.nameIs(DATA)) {
+                dataLength = reader.arrayLength();
+                dataStart = reader.position();
+                reader.position(dataStart + dataLength * 8);
+            } else reader.skip(type);
+        }
+        reader.position(end);
+        if (illegal == null) return;
+
+        if (paletteSize == 1) {
+            for (int index = 0; index < 4096; index++) hit(hits, illegal[0], index, baseY, dimension);
+            return;
+        }
+        int bits = Math.max(4, 32 - Integer.numberOfLeadingZeros(paletteSize - 1));
+        int perLong = 64 / bits;
+        if (dataStart < 0 || dataLength < (4096 + perLong - 1) / perLong) return;
+        long mask = (1L << bits) - 1;
+        ByteBuffer buffer = reader.buffer();
+        int index = 0;
+        for (int word = 0; index < 4096; word++) {
+            long value = buffer.getLong(dataStart + word * 8);
+            for (int i = 0; i < perLong && index < 4096; i++, index++, value >>>= bits) {
+                int entry = (int) (value & mask);
+                if (entry < paletteSize && illegal[entry] >= 0) hit(hits, illegal[entry], index, baseY, dimension);
+            }
+        }
+    }
+
+    private void hit(Hits hits, int block, int index, int baseY, Dimension dimension) {
+        int y = baseY + (index >> 8);
+        if (y < dimension.minY() || y >= dimension.maxY() || !IllegalBlocksCleaner.isIllegal(blocks[block], y, dimension.minY())) return;
+        hits.add(block, (index & 15) | ((index >> 4) & 15) << 4 | (y - dimension.minY()) << 8);
+    }
+
+    private void scanBlockEntity(NbtReader reader, OfflineItemRules.Scan scan) {
+        int x = 0, y = 0, z = 0;
+        int itemsStart = -1;
+        byte type;
+        while ((type = reader.next()) != TAG_END) {
+            if (reader.nameIs(X)) x = (int) reader.readNumber(type);
+            else if (reader.nameIs(Y)) y = (int) reader.readNumber(type);
+            else if (reader.nameIs(Z)) z = (int) reader.readNumber(type);
+            else if (type == TAG_LIST && reader.nameIs(ITEMS)) {
+                itemsStart = reader.position();
+                reader.skip(type);
+            } else reader.skip(type);
+        }
+        if (itemsStart < 0) return;
+        int end = reader.position();
+        reader.position(itemsStart);
+        int count = reader.list();
+        if (reader.listType() == TAG_COMPOUND) scan.checkItems(reader, count, x + "," + y + "," + z + "/Items");
+        reader.position(end);
+    }
+
+    /**
+     * @param world The uid of the world
+     * @param minY The lowest Y of the world
+     * @param maxY The highest Y the IllegalBlocksCleaner looks at, exclusive
+     */
+    public record Dimension(UUID world, int minY, int maxY) {
+    }
+
+    /**
+     * @param regions The amount of region files scanned
+     * @param chunks The amount of chunks scanned
+     * @param skipped The amount of chunks that were not scanned because they are older than 1.18
+     * @param findings The amount of findings reported
+     * @param queued The amount of chunks queued to be fixed when they load
+     * @param dropped The amount of chunks with illegal blocks that did not fit in the queue
+     * @param millis How long the scan took
+     */
+    public record Result(int regions, long chunks, long skipped, long findings, long queued, long dropped, long millis) {
+    }
+
+    private static class Counters {
+        private final LongAdder chunks = new LongAdder();
+        private final LongAdder skipped = new LongAdder();
+        private final LongAdder findings = new LongAdder();
+        private final LongAdder queued = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+    }
+
+    private static class Hits {
+        private final int[] perBlock;
+        private int[] positions = new int[64];
+        private int count;
+
+        private Hits(int blocks) {
+            perBlock = new int[blocks];
+        }
+
+        private void add(int block, int position) {
+            if (count == positions.length) positions = Arrays.copyOf(positions, count * 2);
+            positions[count++] = position;
+            perBlock[block]++;
+        }
+
+        private void clear() {
+            count = 0;
+            Arrays.fill(perBlock, 0);
+        }
+    }
+}
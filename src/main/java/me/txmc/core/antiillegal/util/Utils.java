@@ -1,9 +1,11 @@
 package me.txmc.core.antiillegal.util;
 
 import me.txmc.core.antiillegal.AntiIllegalMain;
+import me.txmc.core.antiillegal.metrics.Source;
 import org.bukkit.entity.ArmorStand;
 import org.bukkit.inventory.EntityEquipment;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
 
 /**
  * @author 254n_m
@@ -13,8 +15,16 @@ import org.bukkit.inventory.ItemStack;
 public class Utils {
     public static void checkStand(ArmorStand stand, AntiIllegalMain main) {
         EntityEquipment eq = stand.getEquipment();
-        main.checkFixItem(eq.getItemInMainHand(), null);
-        main.checkFixItem(eq.getItemInOffHand(), null);
-        for (ItemStack item : eq.getArmorContents()) main.checkFixItem(item, null);
+        main.checkFixItem(eq.getItemInMainHand(), null, Source.ARMOR_STAND);
+        main.checkFixItem(eq.getItemInOffHand(), null, Source.ARMOR_STAND);
+        for (ItemStack item : eq.getArmorContents()) main.checkFixItem(item, null, Source.ARMOR_STAND);
+    }
+
+    /**
+     * getItemMeta() clones the meta every time it is called so the checks share the result of this instead
+     * @return A copy of the items meta or null if the item has none
+     */
+    public static ItemMeta metaSnapshot(ItemStack item) {
+        return item.hasItemMeta() ? item.getItemMeta() : null;
     }
 }
@@ -0,0 +1,255 @@
+package me.txmc.core.chat;
+
+import java.text.Normalizer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The blocked phrase list compiled into a single Aho-Corasick automaton, so a message is checked against every
+ * phrase in one pass no matter how long the list is.
+ *
+ * <p>Phrases and messages go through the same normalization before they are matched. Letters are lower cased,
+ * full width and other compatibility forms are folded to their plain form, accents are dropped and common
+ * Cyrillic and Greek look-alikes are mapped to Latin letters. Zero width and other invisible characters are
+ * removed, runs of whitespace count as one space, dot-like characters count as a dot and comma-like ones as a
+ * comma. Separators are folded rather than removed because phrases such as {@code .at} depend on them, and commas
+ * are kept apart from dots so {@code .at} doesn't match {@code ok,at least}. Phrases spell out the comma
+ * variants they want to catch.</p>
+ *
+ * @author 0x15d3v2
+ * @since 2026/10/16 9:00 PM
+ * This file was created as a part of 8b8tCore
+ */
+public final class BlockedPhraseFilter {
+    public static final BlockedPhraseFilter EMPTY = compile(List.of());
+    private static final int DROP = -1;
+    private static final int DECOMPOSE = -2;
+
+    /**
+     * The character class of every ascii character, characters that are in none of the phrases are class 0
+     */
+    private final int[] asciiClasses;
+    private final Map<Character, Integer> otherClasses;
+    private final int classCount;
+    /**
+     * The full transition table, indexed by {@code state * classCount + class}
+     */
+    private final int[] transitions;
+    private final boolean[] terminal;
+    private final int phraseCount;
+
+    private BlockedPhraseFilter(int[] asciiClasses, Map<Character, Integer> otherClasses, int classCount, int[] transitions, boolean[] terminal, int phraseCount) {
+        this.asciiClasses = asciiClasses;
+        this.otherClasses = otherClasses;
+        this.classCount = classCount;
+        this.transitions = transitions;
+        this.terminal = terminal;
+        this.phraseCount = phraseCount;
+    }
+
+    public static BlockedPhraseFilter compile(Collection<String> phrases) {
+        List<String> normalized = new ArrayList<>(phrases.size());
+        for (String phrase : phrases) {
+            StringBuilder builder = new StringBuilder(phrase.length());
+            normalize(phrase, c -> {
+                builder.append(c);
+                return false;
+            });
+            String result = builder.toString().trim();
+            if (!result.isEmpty()) normalized.add(result);
+        }
+
+        int[] asciiClasses = new int[128];
+        Map<Character, Integer> otherClasses = new HashMap<>();
+        int classCount = 1;
+        for (String phrase : normalized) {
+            for (int i = 0; i < phrase.length(); i++) {
+                char c = phrase.charAt(i);
+                if (c < 128) {
+                    if (asciiClasses[c] == 0) asciiClasses[c] = classCount++;
+                } else if (!otherClasses.containsKey(c)) otherClasses.put(c, classCount++);
+            }
+        }
+
+        List<int[]> children = new ArrayList<>();
+        List<Boolean> ends = new ArrayList<>();
+        children.add(new int[classCount]);
+        ends.add(false);
+        for (String phrase : normalized) {
+            int state = 0;
+            for (int i = 0; i < phrase.length(); i++) {
+                char c = phrase.charAt(i);
+                int cls = c < 128 ? asciiClasses[c] : otherClasses.get(c);
+                int next = children.get(state)[cls];
+                if (next == 0) {
+                    next = children.size();
+                    children.add(new int[classCount]);
+                    ends.add(false);
+                    children.get(state)[cls] = next;
+                }
+                state = next;
+            }
+            ends.set(state, true);
+        }
+
+        int states = children.size();
+        int[] transitions = new int[states * classCount];
+        int[] fail = new int[states];
+        boolean[] terminal = new boolean[states];
+        for (int i = 0; i < states; i++) terminal[i] = ends.get(i);
+
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        int[] rootChildren = children.get(0);
+        for (int cls = 1; cls < classCount; cls++) {
+            int child = rootChildren[cls];
+            transitions[cls] = child;
+            if (child != 0) queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            terminal[state] |= terminal[fail[state]];
+            int[] stateChildren = children.get(state);
+            for (int cls = 1; cls < classCount; cls++) {
+                int child = stateChildren[cls];
+                if (child != 0) {
+                    fail[child] = transitions[fail[state] * classCount + cls];
+                    transitions[state * classCount + cls] = child;
+                    queue.add(child);
+                } else transitions[state * classCount + cls] = transitions[fail[state] * classCount + cls];
+            }
+        }
+        return new BlockedPhraseFilter(asciiClasses, Map.copyOf(otherClasses), classCount, transitions, terminal, normalized.size());
+    }
+
+    /**
+     * @return Whether the message contains any of the blocked phrases once normalized
+     */
+    public boolean matches(CharSequence message) {
+        if (phraseCount == 0) return false;
+        int[] state = {0};
+        return normalize(message, c -> {
+            int cls;
+            if (c < 128) cls = asciiClasses[c];
+            else {
+                Integer other = otherClasses.get(c);
+                cls = other == null ? 0 : other;
+            }
+            state[0] = transitions[state[0] * classCount + cls];
+            return terminal[state[0]];
+        });
+    }
+
+    public int size() {
+        return phraseCount;
+    }
+
+    private interface Sink {
+        /**
+         * @return Whether normalization can stop here
+         */
+        boolean accept(char c);
+    }
+
+    /**
+     * Feeds the normalized form of the text to the sink one character at a time without building it
+     *
+     * @return Whether the sink stopped early
+     */
+    private static boolean normalize(CharSequence text, Sink sink) {
+        boolean space = false;
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = Character.codePointAt(text, i);
+            i += Character.charCount(codePoint);
+            int folded = fold(codePoint);
+            if (folded == DECOMPOSE) {
+                String decomposed = Normalizer.normalize(Character.toString(codePoint), Normalizer.Form.NFKD);
+                for (int j = 0; j < decomposed.length(); ) {
+                    int part = decomposed.codePointAt(j);
+                    j += Character.charCount(part);
+                    folded = fold(part);
+                    if (folded == DECOMPOSE) folded = Character.toLowerCase(part);
+                    if (folded == DROP || (folded == ' ' && space)) continue;
+                    space = folded == ' ';
+                    if (emit(folded, sink)) return true;
+                }
+                continue;
+            }
+            if (folded == DROP || (folded == ' ' && space)) continue;
+            space = folded == ' ';
+            if (emit(folded, sink)) return true;
+        }
+        return false;
+    }
+
+    private static boolean emit(int codePoint, Sink sink) {
+        if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT) return sink.accept((char) codePoint);
+        return sink.accept(Character.highSurrogate(codePoint)) || sink.accept(Character.lowSurrogate(codePoint));
+    }
+
+    /**
+     * @return The folded character, {@link #DROP} if it should be left out or {@link #DECOMPOSE} if it has to go
+     * through compatibility decomposition first
+     */
+    private static int fold(int c) {
+        if (c < 128) {
+            if (c >= 'A' && c <= 'Z') return c + ('a' - 'A');
+            if (c == ' ' || c == '\t' || c == '\n' || c == '\r') return ' ';
+            if (c < ' ' || c == 127) return DROP;
+            return c;
+        }
+        if (c >= 0xFF01 && c <= 0xFF5E) return fold(c - 0xFEE0);
+        switch (c) {
+            case 0x3002, 0xFF61, 0x00B7, 0x2024, 0x2027, 0x30FB -> {
+                return '.';
+            }
+            case 0x3001, 0xFF64 -> {
+                return ',';
+            }
+        }
+        int type = Character.getType(c);
+        if (type == Character.FORMAT || type == Character.NON_SPACING_MARK || type == Character.ENCLOSING_MARK || type == Character.CONTROL) return DROP;
+        if (Character.isWhitespace(c) || Character.isSpaceChar(c)) return ' ';
+        int lower = Character.toLowerCase(c);
+        int confusable = confusable(c);
+        if (confusable == 0) confusable = confusable(lower);
+        if (confusable != 0) return confusable;
+        return Normalizer.isNormalized(Character.toString(c), Normalizer.Form.NFKD) ? lower : DECOMPOSE;
+    }
+
+    /**
+     * @return The Latin letter a Cyrillic or Greek letter is usually passed off as, or 0 if it isn't one. Some
+     * capitals only look like a Latin letter before they are lower cased
+     */
+    private static int confusable(int c) {
+        return switch (c) {
+            case '\u0412', '\u0392' -> 'b';
+            case '\u041D', '\u0397' -> 'h';
+            case '\u041C', '\u039C' -> 'm';
+            case '\u039D' -> 'n';
+            case '\u0422', '\u03A4' -> 't';
+            case '\u0396' -> 'z';
+            case '\u0430', '\u03B1' -> 'a';
+            case '\u0441', '\u03F2' -> 'c';
+            case '\u0501' -> 'd';
+            case '\u0435', '\u0451', '\u03B5' -> 'e';
+            case '\u04BB' -> 'h';
+            case '\u0456', '\u0457', '\u03B9' -> 'i';
+            case '\u0458' -> 'j';
+            case '\u043A', '\u03BA' -> 'k';
+            case '\u04CF' -> 'l';
+            case '\u043E', '\u03BF' -> 'o';
+            case '\u0440', '\u03C1' -> 'p';
+            case '\u051B' -> 'q';
+            case '\u0455' -> 's';
+            case '\u03BD' -> 'v';
+            case '\u051D' -> 'w';
+            case '\u0445', '\u03C7' -> 'x';
+            case '\u0443' -> 'y';
+            default -> 0;
+        };
+    }
+}
@@ -6,6 +6,7 @@ import org.bukkit.entity.Player;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Data
 public class ChatInfo {
@@ -15,7 +16,14 @@ public class ChatInfo {
     private Player replyTarget;
     private boolean toggledChat;
     private boolean joinMessages;
-    private boolean chatLock;
+    /**
+     * When the player's next chat message is due, used by {@link ChatRateLimiter}
+     */
+    private final AtomicLong chatAllowance = new AtomicLong();
+    /**
+     * The latest stats snapshot, replaced on the player's entity scheduler and read by the chat thread
+     */
+    private volatile ChatProfile profile;
 
     public ChatInfo(Player player, ChatSection manager, HashSet<UUID> ignoring, boolean toggledChat, boolean joinMessages) {
         this.player = player;
@@ -0,0 +1,64 @@
+package me.txmc.core.chat;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextColor;
+import org.bukkit.Statistic;
+import org.bukkit.entity.Player;
+
+import java.text.DecimalFormat;
+
+/**
+ * An immutable snapshot of the stats shown when hovering over a player's name in chat, along with the rendered
+ * hover card.
+ *
+ * <p>Statistics may only be read on the thread that owns the player, so snapshots are captured on the player's
+ * entity scheduler and the async chat thread only reads the latest one.</p>
+ *
+ * @author 0x15d3v2
+ * @since 2026/10/16 9:45 PM
+ * This file was created as a part of 8b8tCore
+ */
+public record ChatProfile(String lang, int level, double distanceWalkedKm, int playerKills, int playerDeaths, double timePlayedHours, Component hover) {
+    private static final TextColor LABEL = TextColor.fromHexString("#FFD700");
+
+    /**
+     * Has to be called on the thread that owns the player
+     */
+    public static ChatProfile capture(Player player) {
+        int distanceWalked = player.getStatistic(Statistic.WALK_ONE_CM) + player.getStatistic(Statistic.SPRINT_ONE_CM);
+        int timePlayedTicks = player.getStatistic(Statistic.PLAY_ONE_MINUTE);
+        return create(player, player.getLevel(), distanceWalked / 100000.0, player.getStatistic(Statistic.PLAYER_KILLS),
+                player.getStatistic(Statistic.DEATHS), timePlayedTicks / 20.0 / 3600.0);
+    }
+
+    /**
+     * A profile with empty stats, used until the first snapshot is captured
+     */
+    public static ChatProfile placeholder(Player player) {
+        return create(player, 0, 0, 0, 0, 0);
+    }
+
+    private static ChatProfile create(Player player, int level, double distanceWalkedKm, int playerKills, int playerDeaths, double timePlayedHours) {
+        String lang = player.locale().getLanguage();
+        DecimalFormat df = new DecimalFormat("#.##");
+        Component hover = Component.text()
+                .append(player.displayName())
+                .append(Component.text("\n\n", NamedTextColor.GRAY))
+                .append(Component.text("Lang: ").color(LABEL))
+                .append(Component.text(lang + "\n", NamedTextColor.LIGHT_PURPLE))
+                .append(Component.text("Experience: ").color(LABEL))
+                .append(Component.text(level + "\n", NamedTextColor.GREEN))
+                .append(Component.text("Distance Walked: ").color(LABEL))
+                .append(Component.text(df.format(distanceWalkedKm) + " km\n", NamedTextColor.BLUE))
+                .append(Component.text("Player Kills: ").color(LABEL))
+                .append(Component.text(playerKills + "\n", NamedTextColor.RED))
+                .append(Component.text("Player Deaths: ").color(LABEL))
+                .append(Component.text(playerDeaths + "\n", NamedTextColor.RED))
+                .append(Component.text("Time Played: ").color(LABEL))
+                .append(Component.text(df.format(timePlayedHours) + " hours\n", NamedTextColor.YELLOW))
+                .append(Component.text("\n(Click to send a direct message)").color(NamedTextColor.GRAY))
+                .build();
+        return new ChatProfile(lang, level, distanceWalkedKm, playerKills, playerDeaths, timePlayedHours, hover);
+    }
+}
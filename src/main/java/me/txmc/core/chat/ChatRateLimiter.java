@@ -0,0 +1,89 @@
+package me.txmc.core.chat;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Chat cooldowns as a generic cell rate limiter, the only state is one timestamp per player so nothing has to be
+ * scheduled to lift a cooldown.
+ *
+ * <p>Each player is allowed one message per cooldown on average, with up to {@code Burst} messages in a row.
+ * Players with a permission listed under {@code RankCooldowns} get that rank's cooldown and burst instead.</p>
+ *
+ * @author 0x15d3v2
+ * @since 2026/10/16 9:30 PM
+ * This file was created as a part of 8b8tCore
+ */
+public final class ChatRateLimiter {
+    private static final long EPOCH = System.nanoTime();
+    private final Tier defaults;
+    private final List<Tier> ranks;
+
+    private ChatRateLimiter(Tier defaults, List<Tier> ranks) {
+        this.defaults = defaults;
+        this.ranks = ranks;
+    }
+
+    public static ChatRateLimiter load(ConfigurationSection config) {
+        Tier defaults = new Tier(null, config.getInt("Cooldown", 5), config.getInt("Burst", 1));
+        List<Tier> ranks = new ArrayList<>();
+        ConfigurationSection rankSection = config.getConfigurationSection("RankCooldowns");
+        if (rankSection != null) {
+            for (String permission : rankSection.getKeys(false)) {
+                ConfigurationSection rank = rankSection.getConfigurationSection(permission);
+                if (rank == null) continue;
+                ranks.add(new Tier(permission, rank.getInt("Cooldown", defaults.cooldown()), rank.getInt("Burst", defaults.burst())));
+            }
+        }
+        return new ChatRateLimiter(defaults, List.copyOf(ranks));
+    }
+
+    /**
+     * @return The first rank in the config the player has a permission for, or the defaults
+     */
+    public Tier tierOf(Player player) {
+        for (Tier rank : ranks) {
+            if (player.hasPermission(rank.permission())) return rank;
+        }
+        return defaults;
+    }
+
+    /**
+     * Takes a message from the player's allowance if there is one left
+     *
+     * @param state The theoretical arrival time of the player's next message, see {@link ChatInfo#getChatAllowance()}
+     * @return Whether the message may be sent
+     */
+    public boolean tryAcquire(AtomicLong state, Tier tier) {
+        long interval = tier.intervalNanos();
+        if (interval == 0) return true;
+        long now = System.nanoTime() - EPOCH;
+        long tolerance = interval * (tier.burst() - 1);
+        while (true) {
+            long arrival = state.get();
+            if (now < arrival - tolerance) return false;
+            if (state.compareAndSet(arrival, Math.max(arrival, now) + interval)) return true;
+        }
+    }
+
+    /**
+     * @param permission The permission of the rank or null for the defaults
+     * @param cooldown   Seconds between messages on average
+     * @param burst      How many messages can be sent in a row
+     */
+    public record Tier(String permission, int cooldown, int burst) {
+        public Tier {
+            cooldown = Math.max(cooldown, 0);
+            burst = Math.max(burst, 1);
+        }
+
+        public long intervalNanos() {
+            return TimeUnit.SECONDS.toNanos(cooldown);
+        }
+    }
+}
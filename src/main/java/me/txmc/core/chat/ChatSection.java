@@ -20,7 +20,10 @@ import org.bukkit.entity.Player;
 import java.io.*;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
@@ -30,8 +33,14 @@ import static me.txmc.core.util.GlobalUtils.info;
 public class ChatSection implements Section {
     @Getter private final Main plugin;
     private final HashMap<UUID, ChatInfo> map = new HashMap<>();
+    /**
+     * Online players by their lower case name, used to resolve mentions without scanning every player
+     */
+    private final Map<String, Player> names = new ConcurrentHashMap<>();
     @Getter private ConfigurationSection config;
     @Getter private IStorage<ChatInfo, Player> chatInfoStore;
+    @Getter private volatile BlockedPhraseFilter blockedFilter = BlockedPhraseFilter.EMPTY;
+    @Getter private volatile ChatRateLimiter rateLimiter;
 
     @Override
     public void enable() {
@@ -43,9 +52,11 @@ public class ChatSection implements Section {
         chatInfoStore = new ChatFileIO(ignoresFolder, this);
         if (!ignoresFolder.exists()) ignoresFolder.mkdir();
         config = plugin.getSectionConfig(this);
+        blockedFilter = BlockedPhraseFilter.compile(config.getStringList("Blocked"));
+        rateLimiter = ChatRateLimiter.load(config);
         plugin.register(new JoinLeaveListener(this));
         plugin.register(new CommandWhitelist(this));
-        plugin.register(new ChatListener(this, parseTLDS(tldFile)));
+        plugin.register(new ChatListener(this, LinkDetector.compile(parseTLDS(tldFile))));
         plugin.getCommand("ignore").setExecutor(new IgnoreCommand(this));
         plugin.getCommand("msg").setExecutor(new MessageCommand(this));
         plugin.getCommand("reply").setExecutor(new ReplyCommand(this));
@@ -64,7 +75,7 @@ public class ChatSection implements Section {
         } catch (Throwable t) {
             GlobalUtils.log(Level.WARNING, "&cFailed to parse the TLD file please see the stacktrace below for more info!");
             t.printStackTrace();
-            return null;
+            return new HashSet<>();
         }
     }
 
@@ -79,6 +90,8 @@ public class ChatSection implements Section {
     @Override
     public void reloadConfig() {
         this.config = plugin.getSectionConfig(this);
+        blockedFilter = BlockedPhraseFilter.compile(config.getStringList("Blocked"));
+        rateLimiter = ChatRateLimiter.load(config);
     }
 
     @Override
@@ -87,13 +100,35 @@ public class ChatSection implements Section {
     }
 
     public void registerPlayer(Player player) {
-        map.put(player.getUniqueId(), chatInfoStore.load(player));
+        ChatInfo info = chatInfoStore.load(player);
+        boolean owned = Bukkit.isOwnedByCurrentRegion(player);
+        info.setProfile(owned ? ChatProfile.capture(player) : ChatProfile.placeholder(player));
+        map.put(player.getUniqueId(), info);
+        names.put(player.getName().toLowerCase(Locale.ROOT), player);
+
+        long interval = Math.max(1, config.getInt("ProfileRefreshInterval", 30)) * 20L;
+        player.getScheduler().runAtFixedRate(plugin, task -> {
+            if (getInfo(player) != info) {
+                task.cancel();
+                return;
+            }
+            info.setProfile(ChatProfile.capture(player));
+        }, null, owned ? interval : 1L, interval);
     }
 
     public void removePlayer(Player player) {
         ChatInfo ci = getInfo(player);
         if (ci != null) ci.saveChatInfo();
         map.remove(player.getUniqueId());
+        names.remove(player.getName().toLowerCase(Locale.ROOT), player);
+    }
+
+    /**
+     * @param word A word of a chat message, in any case
+     * @return The online player with that name, or null if there is none
+     */
+    public Player getMentioned(String word) {
+        return names.get(word.toLowerCase(Locale.ROOT));
     }
 
     public ChatInfo getInfo(Player player) {
@@ -0,0 +1,347 @@
+package me.txmc.core.chat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Finds links and server addresses in chat messages in a single pass.
+ *
+ * <p>It detects host names ending in a known top level domain, IPv4 and IPv6 addresses, addresses with a port and
+ * invite style paths such as {@code gg/code}. Labels may be separated by a dot, a full width or ideographic dot,
+ * or a spelled out dot like {@code dot}, {@code (dot)} or {@code [.]}. IPv4 addresses may also be separated by
+ * commas when they are followed by a port, so lists of numbers are let through. Invites need a code of at least
+ * {@link #MIN_INVITE_CODE} characters or {@code discord} in front of them, so {@code gg/ez} is not one. Top level
+ * domains are looked up in a trie so no substrings are made.</p>
+ *
+ * <p>Only a dot, comma, colon or slash between two letters or digits, a dot in brackets or a spelled out dot can
+ * start a link. Messages without one, which includes most punctuated sentences, are rejected without allocating
+ * anything.</p>
+ *
+ * @author 0x15d3v2
+ * @since 2026/10/16 9:15 PM
+ * This file was created as a part of 8b8tCore
+ */
+public final class LinkDetector {
+    private static final String[] INVITE_LABELS = {"gg", "invite"};
+    private static final int MIN_INVITE_CODE = 5;
+    private static final int NO_SEPARATOR = -1;
+    private static final int COMMA = 1 << 30;
+
+    /**
+     * The top level domain trie, stored as first child and next sibling links
+     */
+    private final char[] keys;
+    private final int[] firstChild;
+    private final int[] nextSibling;
+    private final boolean[] terminal;
+
+    private LinkDetector(char[] keys, int[] firstChild, int[] nextSibling, boolean[] terminal) {
+        this.keys = keys;
+        this.firstChild = firstChild;
+        this.nextSibling = nextSibling;
+        this.terminal = terminal;
+    }
+
+    public static LinkDetector compile(Collection<String> tlds) {
+        List<Character> keys = new ArrayList<>();
+        List<Integer> firstChild = new ArrayList<>();
+        List<Integer> nextSibling = new ArrayList<>();
+        List<Boolean> terminal = new ArrayList<>();
+        keys.add('\0');
+        firstChild.add(-1);
+        nextSibling.add(-1);
+        terminal.add(false);
+        for (String tld : tlds) {
+            if (tld.isEmpty()) continue;
+            int node = 0;
+            for (int i = 0; i < tld.length(); i++) {
+                char c = Character.toLowerCase(tld.charAt(i));
+                int child = firstChild.get(node);
+                while (child != -1 && keys.get(child) != c) child = nextSibling.get(child);
+                if (child == -1) {
+                    child = keys.size();
+                    keys.add(c);
+                    firstChild.add(-1);
+                    nextSibling.add(firstChild.get(node));
+                    terminal.add(false);
+                    firstChild.set(node, child);
+                }
+                node = child;
+            }
+            terminal.set(node, true);
+        }
+        int size = keys.size();
+        char[] keyArray = new char[size];
+        int[] firstChildArray = new int[size];
+        int[] nextSiblingArray = new int[size];
+        boolean[] terminalArray = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            keyArray[i] = keys.get(i);
+            firstChildArray[i] = firstChild.get(i);
+            nextSiblingArray[i] = nextSibling.get(i);
+            terminalArray[i] = terminal.get(i);
+        }
+        return new LinkDetector(keyArray, firstChildArray, nextSiblingArray, terminalArray);
+    }
+
+    /**
+     * @return Whether the message contains something that looks like a link or a server address
+     */
+    public boolean containsLink(CharSequence message) {
+        if (!hasCandidate(message)) return false;
+        char[] text = normalize(message);
+        int ipv6Until = 0;
+        for (int i = 0; i < text.length; ) {
+            char c = text[i];
+            if (i >= ipv6Until && (isHex(c) || c == ':')) {
+                int end = i;
+                while (end < text.length && (isHex(text[end]) || text[end] == ':')) end++;
+                if (isIpv6(text, i, end)) return true;
+                ipv6Until = end;
+            }
+            if (!isAlphanumeric(c)) {
+                i++;
+                continue;
+            }
+            int next = scanChain(text, i);
+            if (next < 0) return true;
+            i = next;
+        }
+        return false;
+    }
+
+    /**
+     * Reads labels joined by separators starting at {@code start}
+     *
+     * @return -1 if they form a link, otherwise where scanning should continue
+     */
+    private int scanChain(char[] text, int start) {
+        int labels = 0;
+        int octets = 0;
+        boolean commas = false;
+        int previousStart = -1;
+        int previousEnd = -1;
+        int labelStart = start;
+        int labelEnd;
+        while (true) {
+            labelEnd = labelStart;
+            while (labelEnd < text.length && (isAlphanumeric(text[labelEnd]) || text[labelEnd] == '-')) labelEnd++;
+            labels++;
+            if (isOctet(text, labelStart, labelEnd)) octets++;
+            int separator = separator(text, labelEnd);
+            if (separator == NO_SEPARATOR) break;
+            int next = separator & ~COMMA;
+            if (next >= text.length || !isAlphanumeric(text[next])) break;
+            commas |= (separator & COMMA) != 0;
+            previousStart = labelStart;
+            previousEnd = labelEnd;
+            labelStart = next;
+        }
+        boolean ipv4 = labels == 4 && octets == 4;
+        if (ipv4 && (!commas || isPort(text, labelEnd))) return -1;
+        if (labels >= 2 && !commas && (isTld(text, labelStart, labelEnd) || isPort(text, labelEnd))) return -1;
+        boolean discord = previousStart >= 0 && regionMatches(text, previousStart, previousEnd, "discord");
+        if (isInvite(text, labelStart, labelEnd, discord)) return -1;
+        return labelEnd;
+    }
+
+    /**
+     * @return The start of the next label ored with {@link #COMMA} if the separator was a comma,
+     * or {@link #NO_SEPARATOR} if there is no separator at {@code at}
+     */
+    private static int separator(char[] text, int at) {
+        if (at >= text.length) return NO_SEPARATOR;
+        if (text[at] == '.') return at + 1;
+        if (text[at] == ',') return (at + 1) | COMMA;
+        int i = at;
+        while (i < text.length && text[i] == ' ') i++;
+        boolean spaced = i > at;
+        char close = 0;
+        if (i < text.length) {
+            switch (text[i]) {
+                case '(' -> close = ')';
+                case '[' -> close = ']';
+                case '{' -> close = '}';
+            }
+        }
+        if (close != 0) {
+            i++;
+            while (i < text.length && text[i] == ' ') i++;
+            if (i < text.length && text[i] == '.') i++;
+            else if (isDotWord(text, i)) i += 3;
+            else return NO_SEPARATOR;
+            while (i < text.length && text[i] == ' ') i++;
+            if (i >= text.length || text[i] != close) return NO_SEPARATOR;
+            i++;
+        } else {
+            if (!spaced || !isDotWord(text, i)) return NO_SEPARATOR;
+            i += 3;
+            if (i >= text.length || text[i] != ' ') return NO_SEPARATOR;
+        }
+        while (i < text.length && text[i] == ' ') i++;
+        return i;
+    }
+
+    private boolean isTld(char[] text, int from, int to) {
+        int node = 0;
+        for (int i = from; i < to; i++) {
+            int child = firstChild[node];
+            while (child != -1 && keys[child] != text[i]) child = nextSibling[child];
+            if (child == -1) return false;
+            node = child;
+        }
+        return terminal[node];
+    }
+
+    private static boolean isPort(char[] text, int at) {
+        if (at >= text.length || text[at] != ':') return false;
+        int end = at + 1;
+        while (end < text.length && text[end] >= '0' && text[end] <= '9') end++;
+        int digits = end - at - 1;
+        return digits >= 2 && digits <= 5 && (end >= text.length || !isAlphanumeric(text[end]));
+    }
+
+    /**
+     * @param discord Whether the label before the invite label is {@code discord}
+     */
+    private static boolean isInvite(char[] text, int from, int to, boolean discord) {
+        if (to >= text.length || text[to] != '/') return false;
+        boolean known = false;
+        for (String label : INVITE_LABELS) {
+            if (regionMatches(text, from, to, label)) {
+                known = true;
+                break;
+            }
+        }
+        if (!known) return false;
+        int end = to + 1;
+        while (end < text.length && isAlphanumeric(text[end])) end++;
+        int code = end - to - 1;
+        return code >= MIN_INVITE_CODE || (discord && code >= 2);
+    }
+
+    /**
+     * @return Whether the hex digits and colons in the range form an IPv6 address, either with all eight groups
+     * or shortened with a single {@code ::} and at least three groups
+     */
+    private static boolean isIpv6(char[] text, int from, int to) {
+        if (from > 0 && isAlphanumeric(text[from - 1])) return false;
+        if (to < text.length && isAlphanumeric(text[to])) return false;
+        int groups = 0;
+        int shortened = 0;
+        int groupLength = 0;
+        for (int i = from; i < to; i++) {
+            if (text[i] == ':') {
+                if (i + 1 < to && text[i + 1] == ':') {
+                    if (++shortened > 1 || (i + 2 < to && text[i + 2] == ':')) return false;
+                }
+                if (groupLength > 0) groups++;
+                groupLength = 0;
+            } else if (++groupLength > 4) return false;
+        }
+        if (groupLength > 0) groups++;
+        return shortened == 0 ? groups == 8 && text[from] != ':' && text[to - 1] != ':' : groups >= 3 && groups < 8;
+    }
+
+    private static boolean isOctet(char[] text, int from, int to) {
+        int length = to - from;
+        if (length < 1 || length > 3) return false;
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            char c = text[i];
+            if (c < '0' || c > '9') return false;
+            value = value * 10 + (c - '0');
+        }
+        return value <= 255;
+    }
+
+    private static boolean isDotWord(char[] text, int at) {
+        return at + 3 <= text.length && text[at] == 'd' && (text[at + 1] == 'o' || text[at + 1] == '0') && text[at + 2] == 't';
+    }
+
+    private static boolean regionMatches(char[] text, int from, int to, String value) {
+        if (to - from != value.length()) return false;
+        for (int i = 0; i < value.length(); i++) {
+            if (text[from + i] != value.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return Whether the message has a separator a link could be made of, without allocating
+     */
+    static boolean hasCandidate(CharSequence message) {
+        for (int i = 0; i < message.length(); i++) {
+            char c = fold(message.charAt(i));
+            switch (c) {
+                case '.', ',', ':', '/' -> {
+                    if (isAlphanumeric(visibleNeighbor(message, i, -1, false)) && isAlphanumeric(visibleNeighbor(message, i, 1, false))) return true;
+                    if (c == '.') {
+                        char open = visibleNeighbor(message, i, -1, true);
+                        if (open == '(' || open == '[' || open == '{') return true;
+                    }
+                }
+                case 'd' -> {
+                    if (i + 2 < message.length()) {
+                        char o = fold(message.charAt(i + 1));
+                        if ((o == 'o' || o == '0') && fold(message.charAt(i + 2)) == 't') return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param step -1 to look before {@code at}, 1 to look after it
+     * @param skipSpaces Whether spaces are skipped like invisible characters
+     * @return The folded character next to {@code at}, or 0 at either end of the message
+     */
+    private static char visibleNeighbor(CharSequence message, int at, int step, boolean skipSpaces) {
+        for (int i = at + step; i >= 0 && i < message.length(); i += step) {
+            char c = message.charAt(i);
+            if (isInvisible(c) || (skipSpaces && c == ' ')) continue;
+            return fold(c);
+        }
+        return 0;
+    }
+
+    /**
+     * Lower cases the message and folds full width characters and ideographic dots, invisible characters are left out
+     */
+    private static char[] normalize(CharSequence message) {
+        char[] text = new char[message.length()];
+        int length = 0;
+        for (int i = 0; i < message.length(); i++) {
+            char c = message.charAt(i);
+            if (isInvisible(c)) continue;
+            text[length++] = fold(c);
+        }
+        return length == text.length ? text : Arrays.copyOf(text, length);
+    }
+
+    private static boolean isInvisible(char c) {
+        return c == '\u200B' || c == '\u200C' || c == '\u200D' || c == '\u2060' || c == '\uFEFF' || c == '\u00AD';
+    }
+
+    private static char fold(char c) {
+        if (c >= 'A' && c <= 'Z') return (char) (c + ('a' - 'A'));
+        if (c < 128) return c;
+        if (c >= '\uFF01' && c <= '\uFF5E') return fold((char) (c - 0xFEE0));
+        return switch (c) {
+            case '\u3002', '\uFF61' -> '.';
+            case '\u3001', '\uFF64' -> ',';
+            default -> c;
+        };
+    }
+
+    private static boolean isAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isHex(char c) {
+        return (c >= 'a' && c <= 'f') || (c >= '0' && c <= '9');
+    }
+}
@@ -3,164 +3,113 @@ package me.txmc.core.chat.listeners;
 import io.papermc.paper.event.player.AsyncChatEvent;
 import lombok.RequiredArgsConstructor;
 import me.txmc.core.chat.ChatInfo;
+import me.txmc.core.chat.ChatProfile;
+import me.txmc.core.chat.ChatRateLimiter;
 import me.txmc.core.chat.ChatSection;
+import me.txmc.core.chat.LinkDetector;
 import me.txmc.core.customexperience.util.PrefixManager;
 import me.txmc.core.util.GlobalUtils;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.TextComponent;
 import net.kyori.adventure.text.event.ClickEvent;
 import net.kyori.adventure.text.event.HoverEvent;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.kyori.adventure.text.format.TextColor;
 import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
-import org.bukkit.Statistic;
 import org.bukkit.entity.Player;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 
-import java.text.DecimalFormat;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
+import java.util.UUID;
 import java.util.logging.Level;
+import java.util.regex.Pattern;
 
 import static me.txmc.core.util.GlobalUtils.log;
 import static me.txmc.core.util.GlobalUtils.sendPrefixedLocalizedMessage;
 
 @RequiredArgsConstructor
 public class ChatListener implements Listener {
+    private static final Pattern HERE = Pattern.compile("(?i)\\b@?here\\b");
+    private static final Pattern EVERYONE = Pattern.compile("(?i)\\b@?everyone\\b");
     private final ChatSection manager;
-    private final HashSet<String> tlds;
-    private ScheduledExecutorService service;
+    private final LinkDetector linkDetector;
     private final PrefixManager prefixManager = new PrefixManager();
     private final MiniMessage miniMessage = MiniMessage.miniMessage();
 
     @EventHandler
     public void onChat(AsyncChatEvent event) {
-        if (service == null) service = manager.getPlugin().getExecutorService();
         event.setCancelled(true);
         Player sender = event.getPlayer();
-        int cooldown = manager.getConfig().getInt("Cooldown");
         ChatInfo ci = manager.getInfo(sender);
-        if (ci.isChatLock() && !sender.isOp()) {
-            sendPrefixedLocalizedMessage(sender, "chat_cooldown", cooldown);
-            return;
+        if (!sender.isOp()) {
+            ChatRateLimiter rateLimiter = manager.getRateLimiter();
+            ChatRateLimiter.Tier tier = rateLimiter.tierOf(sender);
+            if (!rateLimiter.tryAcquire(ci.getChatAllowance(), tier)) {
+                sendPrefixedLocalizedMessage(sender, "chat_cooldown", tier.cooldown());
+                return;
+            }
         }
-        ci.setChatLock(true);
-        service.schedule(() -> ci.setChatLock(false), cooldown, TimeUnit.SECONDS);
 
         String ogMessage = PlainTextComponentSerializer.plainText().serialize(event.message());
-        Component displayName = sender.displayName();
-        Component message = formatMessage(ogMessage, displayName, sender, null);
-        if(message == null) return;
+        RenderedMessage message = formatMessage(ogMessage, sender.displayName(), sender, ci.getProfile());
+        if (message == null) return;
 
         if (blockedCheck(ogMessage)) {
-            sender.sendMessage(message);
+            sender.sendMessage(message.base());
             log(Level.INFO, "&3Prevented&r&a %s&r&3 from sending a message that has banned words", sender.getName());
             return;
         }
         if (domainCheck(ogMessage)) {
-            sender.sendMessage(message);
+            sender.sendMessage(message.base());
             log(Level.INFO, "&3Prevented player&r&a %s&r&3 from sending a link / server ip", sender.getName());
             return;
         }
 
-        Bukkit.getLogger().info(GlobalUtils.getStringContent(message));
+        Bukkit.getLogger().info(GlobalUtils.getStringContent(message.base()));
 
         for (Player recipient : Bukkit.getOnlinePlayers()) {
             ChatInfo info = manager.getInfo(recipient);
             if (info == null || info.isIgnoring(sender.getUniqueId()) || info.isToggledChat()) continue;
-
-            String lowerMessage = ogMessage.toLowerCase();
-
-            if (lowerMessage.contains(recipient.getName().toLowerCase())) {
-                TextComponent highlightedMessage = formatMessage(ogMessage, displayName, sender, recipient.getName());
-                if(highlightedMessage == null) return;
-
-                recipient.sendMessage(highlightedMessage);
-            } else {
-                recipient.sendMessage(message);
-            }
+            recipient.sendMessage(message.forRecipient(recipient));
         }
     }
 
     private boolean domainCheck(String message) {
         if (!manager.getConfig().getBoolean("PreventLinks")) return false;
-        message = message.toLowerCase().replace("dot", ".").replace("d0t", ".");
-        if (message.indexOf('.') == -1) return false;
-        String[] split = message.trim().split("\\.");
-        if (split.length == 2) {
-            String possibleTLD = split[1];
-            if (possibleTLD.contains("/")) possibleTLD = possibleTLD.substring(0, possibleTLD.indexOf("/"));
-            return tlds.contains(possibleTLD);
-        } else {
-            for (String word : split) {
-                if (word.contains("/")) word = word.substring(0, word.indexOf("/"));
-                if (tlds.contains(word)) return true;
-            }
-        }
-        return false;
+        return linkDetector.containsLink(message);
     }
 
     private boolean blockedCheck(String message) {
-        List<String> blocked = manager.getConfig().getStringList("Blocked");
-        for (String blockedWord : blocked) {
-            if (message.toLowerCase().contains(blockedWord.toLowerCase())) return true;
-        }
-        return false;
+        return manager.getBlockedFilter().matches(message);
     }
 
-    public TextComponent formatMessage(String message, Component displayName, Player player, String mentionedPlayerName) {
-
-        int exp = player.getLevel();
-        String lang = player.locale().getLanguage();
-        int distanceWalked = player.getStatistic(Statistic.WALK_ONE_CM) + player.getStatistic(Statistic.SPRINT_ONE_CM);
-        int playerKills = player.getStatistic(Statistic.PLAYER_KILLS);
-        int playerDeaths = player.getStatistic(Statistic.DEATHS);
-        int timePlayedTicks = player.getStatistic(Statistic.PLAY_ONE_MINUTE);
-
-        double distanceWalkedKm = distanceWalked / 100000.0;
-        double timePlayedHours = timePlayedTicks / 20.0 / 3600.0;
-
-        DecimalFormat df = new DecimalFormat("#.##");
-        String distanceWalkedFormatted = df.format(distanceWalkedKm);
-        String timePlayedFormatted = df.format(timePlayedHours);
-
-        Component hoverText = Component.text()
-                .append(player.displayName())
-                .append(Component.text("\n\n", NamedTextColor.GRAY))
-                .append(Component.text("Lang: ").color(TextColor.fromHexString("#FFD700")))
-                .append(Component.text(lang + "\n", NamedTextColor.LIGHT_PURPLE))
-                .append(Component.text("Experience: ").color(TextColor.fromHexString("#FFD700")))
-                .append(Component.text(exp + "\n", NamedTextColor.GREEN))
-                .append(Component.text("Distance Walked: ").color(TextColor.fromHexString("#FFD700")))
-                .append(Component.text(distanceWalkedFormatted + " km\n", NamedTextColor.BLUE))
-                .append(Component.text("Player Kills: ").color(TextColor.fromHexString("#FFD700")))
-                .append(Component.text(playerKills + "\n", NamedTextColor.RED))
-                .append(Component.text("Player Deaths: ").color(TextColor.fromHexString("#FFD700")))
-                .append(Component.text(playerDeaths + "\n", NamedTextColor.RED))
-                .append(Component.text("Time Played: ").color(TextColor.fromHexString("#FFD700")))
-                .append(Component.text(timePlayedFormatted + " hours\n", NamedTextColor.YELLOW))
-                .append(Component.text("\n(Click to send a direct message)").color(NamedTextColor.GRAY))
-                .build();
-
+    /**
+     * Renders the message once for everyone. Names of online players are resolved through the chat section's
+     * name index, and where they are in the message is remembered so {@link RenderedMessage#forRecipient(Player)}
+     * only has to swap in highlighted names for the players that were mentioned.
+     *
+     * @return The rendered message or null if there is nothing left to send
+     */
+    public RenderedMessage formatMessage(String message, Component displayName, Player player, ChatProfile profile) {
         String prefix = prefixManager.getPrefix(player);
         Component prefixComponent = miniMessage.deserialize(prefix);
 
         Component nameComponent = prefixComponent
                 .append(Component.text("<").color(TextColor.color(170, 170, 170)))
                 .append(displayName
-                        .hoverEvent(HoverEvent.showText(hoverText))
+                        .hoverEvent(HoverEvent.showText(profile.hover()))
                         .clickEvent(ClickEvent.suggestCommand("/msg " + player.getName() + " ")))
                 .append(Component.text("> ").color(TextColor.color(170, 170, 170)));
 
         String resetColor = message.startsWith(">") ? ChatColor.GREEN.toString() : ChatColor.RESET.toString();
-        message = message.replaceAll("(?i)\\b@?here\\b", ChatColor.YELLOW + "$0" + resetColor);
-        message = message.replaceAll("(?i)\\b@?everyone\\b", ChatColor.YELLOW + "$0" + resetColor);
+        message = HERE.matcher(message).replaceAll(ChatColor.YELLOW + "$0" + resetColor);
+        message = EVERYONE.matcher(message).replaceAll(ChatColor.YELLOW + "$0" + resetColor);
 
         NamedTextColor colorMessage = NamedTextColor.WHITE;
 
@@ -171,36 +120,38 @@ public class ChatListener implements Listener {
 
         if (message.trim().isEmpty()) return null;
 
-        Component msgComponent = Component.text("");
         String[] words = message.split(" ");
+        List<Component> body = new ArrayList<>(words.length + 4);
+        Map<UUID, List<Integer>> mentions = new HashMap<>();
 
         for (String word : words) {
-            boolean isPlayerName = false;
-
-            for (Player onlinePlayer : Bukkit.getOnlinePlayers()) {
-                if (word.equalsIgnoreCase(onlinePlayer.getName())) {
-                    Component mentionedNameComponent = onlinePlayer.name();
-
-                    mentionedNameComponent = mentionedNameComponent.color(colorMessage);
-                    if(mentionedPlayerName != null){
-                        if(onlinePlayer.getName().equals(mentionedPlayerName)){
-                            mentionedNameComponent = mentionedNameComponent.color(NamedTextColor.YELLOW);
-                        }
-                    }
-
-                    msgComponent = msgComponent.append(mentionedNameComponent).append(Component.text(" "));
-                    isPlayerName = true;
-                    break;
-                }
-            }
-
-            if (!isPlayerName) {
-                if(colorMessage != NamedTextColor.WHITE){
-                    msgComponent = msgComponent.append(Component.text(word + " ").color(colorMessage));
-                } else msgComponent = msgComponent.append(Component.text(word + " "));
-            }
+            Player mentioned = manager.getMentioned(word);
+            if (mentioned != null) {
+                mentions.computeIfAbsent(mentioned.getUniqueId(), u -> new ArrayList<>(1)).add(body.size());
+                body.add(mentioned.name().color(colorMessage));
+                body.add(Component.text(" "));
+            } else if (colorMessage != NamedTextColor.WHITE) {
+                body.add(Component.text(word + " ").color(colorMessage));
+            } else body.add(Component.text(word + " "));
         }
 
-        return (TextComponent) nameComponent.append(msgComponent);
+        return new RenderedMessage(nameComponent, body, nameComponent.append(Component.text("").children(body)), mentions);
+    }
+
+    /**
+     * A chat message rendered once, along with where every mentioned player's name is in it.
+     */
+    public record RenderedMessage(Component name, List<Component> body, Component base, Map<UUID, List<Integer>> mentions) {
+
+        /**
+         * @return The message with the recipient's name highlighted if they were mentioned, otherwise the shared base
+         */
+        public Component forRecipient(Player recipient) {
+            List<Integer> slots = mentions.get(recipient.getUniqueId());
+            if (slots == null) return base;
+            List<Component> highlighted = new ArrayList<>(body);
+            for (int slot : slots) highlighted.set(slot, highlighted.get(slot).color(NamedTextColor.YELLOW));
+            return name.append(Component.text("").children(highlighted));
+        }
     }
 }
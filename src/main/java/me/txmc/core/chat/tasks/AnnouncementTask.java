@@ -2,8 +2,6 @@ package me.txmc.core.chat.tasks;
 
 import me.txmc.core.Localization;
 import me.txmc.core.util.GlobalUtils;
-import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.TextComponent;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 
@@ -12,17 +10,13 @@ import java.util.concurrent.ThreadLocalRandom;
 
 public class AnnouncementTask implements Runnable {
 
-    private ThreadLocalRandom random = ThreadLocalRandom.current();
     @Override
     public void run() {
         for (Player p : Bukkit.getOnlinePlayers()) {
-            Localization loc = Localization.getLocalization(p.locale().getLanguage());
-            List<TextComponent> announcements = loc.getStringList("announcements")
-                    .stream()
-                    .map(s -> s.replace("%prefix%", loc.getPrefix()))
-                    .map(GlobalUtils::translateChars).toList();
-            Component announcement = announcements.get(random.nextInt(announcements.size()));
-            p.sendMessage(announcement);
+            List<String> announcements = Localization.of(p).getStringList("announcements");
+            if (announcements.isEmpty()) continue;
+            String announcement = announcements.get(ThreadLocalRandom.current().nextInt(announcements.size()));
+            p.sendMessage(GlobalUtils.translateCharsCached(announcement));
         }
     }
 }
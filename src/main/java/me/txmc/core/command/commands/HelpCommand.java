@@ -7,7 +7,7 @@ import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 
 import static me.txmc.core.util.GlobalUtils.sendMessage;
-import static me.txmc.core.util.GlobalUtils.translateChars;
+import static me.txmc.core.util.GlobalUtils.translateCharsCached;
 
 public class HelpCommand extends BaseCommand {
     public HelpCommand() {
@@ -17,8 +17,8 @@ public class HelpCommand extends BaseCommand {
     @Override
     public void execute(CommandSender sender, String[] args) {
         if (sender instanceof Player player) {
-            Localization loc = Localization.getLocalization(player.locale().getLanguage());
-            Component helpMsg = translateChars(String.join("\n", loc.getStringList("HelpMessage").toArray(String[]::new)));
+            Localization loc = Localization.of(player);
+            Component helpMsg = translateCharsCached(String.join("\n", loc.getStringList("HelpMessage").toArray(String[]::new)));
             player.sendMessage(helpMsg);
         } else sendMessage(sender, "&cYou must be a player");
     }
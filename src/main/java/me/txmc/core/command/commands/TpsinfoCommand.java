@@ -3,16 +3,11 @@ package me.txmc.core.command.commands;
 import me.txmc.core.Localization;
 import me.txmc.core.Main;
 import me.txmc.core.command.BaseCommand;
-import me.txmc.core.util.GlobalUtils;
-import org.bukkit.Bukkit;
+import me.txmc.core.telemetry.RegionStats;
+import me.txmc.core.telemetry.RegionTelemetry;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-
 import static me.txmc.core.util.GlobalUtils.sendPrefixedLocalizedMessage;
 import static me.txmc.core.util.GlobalUtils.translateChars;
 
@@ -27,7 +22,7 @@ import static me.txmc.core.util.GlobalUtils.translateChars;
  * <ul>
  *     <li>Checks if the command sender has the required permissions.</li>
  *     <li>Retrieves the current server TPS and MSPT.</li>
- *     <li>Calculates the lowest TPS among regions with online players.</li>
+ *     <li>Calculates the lowest TPS among regions with online players from the region telemetry.</li>
  * </ul>
  *
  * @author Minelord9000 (agarciacorte)
@@ -57,43 +52,16 @@ public class TpsinfoCommand extends BaseCommand {
         }
 
 
-        double tps = GlobalUtils.getCurrentRegionTps();
-        double mspt = getServerMSPT();
+        RegionTelemetry telemetry = plugin.getRegionTelemetry();
+        RegionStats stats = telemetry.getRegionStats(player);
         int onlinePlayers = plugin.getServer().getOnlinePlayers().size();
+        // Every region with a player in it is sampled by the telemetry, so players sharing a region are only counted once
+        double lowestTPS = telemetry.getAllRegionStats().stream().mapToDouble(RegionStats::tps15s).min().orElse(stats.tps15s());
 
-        Localization loc = Localization.getLocalization(player.locale().getLanguage());
+        Localization loc = Localization.of(player);
         String tpsMsg = String.join("\n", loc.getStringList("TpsMessage"));
-        String strTps = String.format("%.2f", tps);
-        String strMspt = String.format("%.2f", mspt);
-        getLowestRegionTPS().thenAccept(lowestTPS -> player.sendMessage( translateChars(String.format(tpsMsg, strTps, strMspt, String.format("%.2f", lowestTPS), onlinePlayers))));
-
-    }
-
-    private double getServerMSPT() {
-        return 1000.0 / GlobalUtils.getCurrentRegionTps();
-    }
-
-    private CompletableFuture<Double> getLowestRegionTPS() {
-        List<CompletableFuture<Double>> futures = new ArrayList<>();
-
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            futures.add(GlobalUtils.getRegionTps(player.getLocation()));
-        }
-
-        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
-                .thenApply(v -> {
-                    double lowestTPS = Double.MAX_VALUE;
-                    for (CompletableFuture<Double> future : futures) {
-                        try {
-                            double regionTPS = future.get();
-                            if (regionTPS < lowestTPS) {
-                                lowestTPS = regionTPS;
-                            }
-                        } catch (InterruptedException | ExecutionException e) {
-                            //ignore
-                        }
-                    }
-                    return lowestTPS;
-                });
+        String strTps = String.format("%.2f", stats.tps15s());
+        String strMspt = String.format("%.2f", stats.mspt15s());
+        player.sendMessage(translateChars(String.format(tpsMsg, strTps, strMspt, String.format("%.2f", lowestTPS), onlinePlayers)));
     }
 }
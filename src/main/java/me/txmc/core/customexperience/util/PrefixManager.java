@@ -1,10 +1,14 @@
 package me.txmc.core.customexperience.util;
 
+import me.txmc.core.util.GlobalUtils;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.bukkit.entity.Player;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Manages and retrieves the appropriate prefix for players based on their permissions,
@@ -19,7 +23,9 @@ import java.util.*;
 public class PrefixManager {
 
     private static final Map<String, String> PREFIXES = new HashMap<>();
-    private static double globalAnimationIndex = 0.0; // Shared animation index for all players
+    private static final Map<String, Component[]> FRAMES = new ConcurrentHashMap<>();
+    private static final int FRAME_COUNT = 10;
+    private static volatile long frameInterval = 500; // Milliseconds each animation frame is shown for, 0 to not animate
 
     private static final List<String> PREFIX_HIERARCHY = Arrays.asList(
             "*",
@@ -43,25 +49,48 @@ public class PrefixManager {
         PREFIXES.put("8b8tcore.prefix.donator1", "<gradient:#AAAAAA:#F3F3F3:#AAAAAA:%s>[DONOR1]</gradient>");
     }
 
-    public String getPrefix(Player player) {
+    public static void setFrameInterval(long millis) {
+        frameInterval = Math.max(0, millis);
+    }
 
-        String highestPermission = "";
+    /**
+     * @return The animation frame every prefix is currently showing, derived from the clock so reading it changes nothing
+     */
+    public static int currentFrame() {
+        long interval = frameInterval;
+        return interval == 0 ? 0 : (int) (System.currentTimeMillis() / interval % FRAME_COUNT);
+    }
 
+    /**
+     * @return The prefix permission the player has that is highest in the hierarchy or null if they have none
+     */
+    public String getPrefixPermission(Player player) {
         for (String permission : PREFIX_HIERARCHY) {
-            if (player.hasPermission(permission)) {
-                highestPermission = permission;
-                break;
-            }
+            if (player.hasPermission(permission)) return permission;
         }
+        return null;
+    }
 
-        if (highestPermission.isEmpty()) {
-            return "";
-        }
+    public String getPrefix(Player player) {
+        String permission = getPrefixPermission(player);
+        return permission == null ? "" : getPrefix(permission, currentFrame());
+    }
 
-        String basePrefix = PREFIXES.get(highestPermission);
-        globalAnimationIndex = (globalAnimationIndex + 0.1) % 1.0;
-        String animatedPrefix = basePrefix.replace("%s", String.format("%.1f", globalAnimationIndex));
+    private String getPrefix(String permission, int frame) {
+        return PREFIXES.get(permission).replace("%s", String.format(Locale.ROOT, "%.1f", frame / (double) FRAME_COUNT)) + " ";
+    }
 
-        return animatedPrefix + " ";
+    /**
+     * @param permission A permission returned by {@link #getPrefixPermission(Player)}
+     * @return The prefix parsed into a component, every frame is only parsed once
+     */
+    public Component getPrefixComponent(String permission, int frame) {
+        Component[] frames = FRAMES.computeIfAbsent(permission, p -> new Component[FRAME_COUNT]);
+        Component component = frames[frame];
+        if (component == null) {
+            component = MiniMessage.miniMessage().deserialize(GlobalUtils.convertToMiniMessageFormat(getPrefix(permission, frame)));
+            frames[frame] = component;
+        }
+        return component;
     }
-}
\ No newline at end of file
+}
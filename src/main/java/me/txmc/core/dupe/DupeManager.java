@@ -1,16 +1,15 @@
 package me.txmc.core.dupe;
 
 import me.txmc.core.Main;
+import me.txmc.core.util.MaterialRuleSet;
 import org.bukkit.Material;
 import org.bukkit.block.ShulkerBox;
-import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.BlockStateMeta;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import static me.txmc.core.util.GlobalUtils.sendPrefixedLocalizedMessage;
@@ -21,25 +20,16 @@ import static me.txmc.core.util.GlobalUtils.sendPrefixedLocalizedMessage;
  * This file was created as a fork of 8b8tCore
  */
 public class DupeManager {
-    private final FileConfiguration config;
+    private static final MaterialRuleSet SHULKER_BOXES = MaterialRuleSet.compile(List.of("*SHULKER_BOX"), "shulker boxes");
     private final Main plugin;
+    private volatile MaterialRuleSet nonDupeableItems = MaterialRuleSet.EMPTY;
 
     public DupeManager(Main plugin) {
         this.plugin = plugin;
-        this.config = plugin.getConfig();
     }
 
-    private final List<Material> nonDupeableItems = new ArrayList<>();
-
     public void loadNonDupeableItems() {
-        nonDupeableItems.clear();
-        List<String> nonDupeableItemStrings = config.getStringList("Dupe.NonDupeableItems");
-        for (String itemName : nonDupeableItemStrings) {
-            Material material = Material.matchMaterial(itemName.toUpperCase());
-            if (material != null) {
-                nonDupeableItems.add(material);
-            }
-        }
+        nonDupeableItems = MaterialRuleSet.compile(plugin.getConfig().getStringList("Dupe.NonDupeableItems"), "Dupe.NonDupeableItems");
     }
 
     public boolean isDupeable(ItemStack item, Entity entity) {
@@ -49,11 +39,12 @@ public class DupeManager {
                 .toArray()
                 .length;
 
-        if (droppedItemCount >= config.getInt("Dupe.MaxItemsOnGround", 18)) {
+        if (droppedItemCount >= plugin.getConfig().getInt("Dupe.MaxItemsOnGround", 18)) {
             sendPrefixedLocalizedMessage((Player) entity, "framedupe_items_limit");
             return false;
         }
 
+        MaterialRuleSet nonDupeableItems = this.nonDupeableItems;
         Material itemType = item.getType();
         if (isShulkerBox(item)) {
             BlockStateMeta blockStateMeta = (BlockStateMeta) item.getItemMeta();
@@ -73,23 +64,6 @@ public class DupeManager {
     }
 
     private boolean isShulkerBox(ItemStack item) {
-        Material type = item.getType();
-        return type == Material.SHULKER_BOX ||
-                type == Material.BLACK_SHULKER_BOX ||
-                type == Material.BLUE_SHULKER_BOX ||
-                type == Material.BROWN_SHULKER_BOX ||
-                type == Material.CYAN_SHULKER_BOX ||
-                type == Material.GRAY_SHULKER_BOX ||
-                type == Material.GREEN_SHULKER_BOX ||
-                type == Material.LIGHT_BLUE_SHULKER_BOX ||
-                type == Material.LIGHT_GRAY_SHULKER_BOX ||
-                type == Material.LIME_SHULKER_BOX ||
-                type == Material.MAGENTA_SHULKER_BOX ||
-                type == Material.ORANGE_SHULKER_BOX ||
-                type == Material.PINK_SHULKER_BOX ||
-                type == Material.PURPLE_SHULKER_BOX ||
-                type == Material.RED_SHULKER_BOX ||
-                type == Material.WHITE_SHULKER_BOX ||
-                type == Material.YELLOW_SHULKER_BOX;
+        return SHULKER_BOXES.contains(item.getType());
     }
 }
@@ -1,5 +1,6 @@
 package me.txmc.core.patch.listeners;
 
+import me.txmc.core.util.ItemSizeEstimator;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
@@ -14,8 +15,6 @@ import java.util.Map;
 import java.util.UUID;
 
 import static me.txmc.core.patch.listeners.NbtBanPatch.getItemName;
-import static me.txmc.core.patch.listeners.NbtBanPatch.calculateStringSizeInBytes;
-import static me.txmc.core.patch.listeners.NbtBanPatch.processContainerItem;
 import static me.txmc.core.util.GlobalUtils.sendPrefixedLocalizedMessage;
 import static org.apache.logging.log4j.LogManager.getLogger;
 
@@ -66,26 +65,14 @@ public class AntiLagChestListener implements Listener {
         Inventory inventory = event.getInventory();
 
         for (ItemStack item : inventory.getContents()) {
-            int itemSize = 0;
             if (item != null) {
-
-                if (item.getType().toString().endsWith("SHULKER_BOX") ||
-                        item.getType().toString().endsWith("CHEST") ||
-                        item.getType().toString().endsWith("TRAPPED_CHEST") ||
-                        item.getType().toString().endsWith("BARREL")) {
-
-                    itemSize = processContainerItem(item);
-                } else {
-
-                    itemSize = calculateStringSizeInBytes(item.toString());
-                }
+                int itemSize = ItemSizeEstimator.sizeOf(item, MAX_ITEM_SIZE_BYTES);
                 if (itemSize > MAX_ITEM_SIZE_BYTES) {
                     inventory.remove(item);
                     getLogger().warn("Cleared a " + getItemName(item) + " with a size of " + itemSize + " bytes from a " + inventory.getType() + " triggered by " + player.getName());
                     sendPrefixedLocalizedMessage(player, "nbtPatch_deleted_item", getItemName(item));
                 }
             }
-
         }
     }
 
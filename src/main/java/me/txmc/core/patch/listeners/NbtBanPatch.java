@@ -1,22 +1,16 @@
 package me.txmc.core.patch.listeners;
 
-import me.txmc.core.util.GlobalUtils;
-import net.kyori.adventure.text.Component;
-import org.bukkit.block.Container;
+import me.txmc.core.util.ItemSizeEstimator;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
-import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.BlockStateMeta;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.plugin.java.JavaPlugin;
 
-import java.nio.charset.StandardCharsets;
-
 import static me.txmc.core.util.GlobalUtils.sendPrefixedLocalizedMessage;
 import static org.apache.logging.log4j.LogManager.getLogger;
 
@@ -29,7 +23,7 @@ import static org.apache.logging.log4j.LogManager.getLogger;
  * <p>Functionality includes:</p>
  * <ul>
  *     <li>Detecting items in the player's inventory upon join</li>
- *     <li>Calculating the size of each item's metadata</li>
+ *     <li>Calculating the serialized size of each item, including the contents of containers</li>
  *     <li>Clearing items that exceed a specific size threshold</li>
  * </ul>
  *
@@ -58,20 +52,8 @@ public class NbtBanPatch implements Listener {
 
     private void handleInventory(Player player) {
         for (ItemStack item : player.getInventory().getContents()) {
-            int itemSize;
             if (item != null) {
-                if (item.getType().toString().endsWith("SHULKER_BOX") ||
-                        item.getType().toString().endsWith("CHEST") ||
-                        item.getType().toString().endsWith("TRAPPED_CHEST") ||
-                        item.getType().toString().endsWith("BARREL") ||
-                        item.getType().toString().endsWith("DISPENSER") ||
-                        item.getType().toString().endsWith("DROPPER") ||
-                        item.getType().toString().endsWith("HOPPER")) {
-
-                    itemSize = processContainerItem(item);
-                } else {
-                    itemSize = calculateStringSizeInBytes(item.toString());
-                }
+                int itemSize = ItemSizeEstimator.sizeOf(item, MAX_ITEM_SIZE_BYTES);
                 if (itemSize > MAX_ITEM_SIZE_BYTES) {
                     player.getInventory().remove(item);
                     getLogger().warn("Cleared item in " + player.getName() + "'s inventory with size " + itemSize + " bytes named '" + getItemName(item) + "'");
@@ -81,42 +63,6 @@ public class NbtBanPatch implements Listener {
         }
     }
 
-    public static int processContainerItem(ItemStack containerItem) {
-        int totalSize = 0;
-
-        BlockStateMeta blockStateMeta = (BlockStateMeta) containerItem.getItemMeta();
-        if (blockStateMeta != null && blockStateMeta.getBlockState() instanceof Container) {
-            Container container = (Container) blockStateMeta.getBlockState();
-            Inventory containerInventory = container.getInventory();
-
-            for (ItemStack item : containerInventory.getContents()) {
-                if (item != null) {
-                    if (
-                            item.getType().toString().endsWith("SHULKER_BOX") ||
-                            item.getType().toString().endsWith("CHEST") ||
-                            item.getType().toString().endsWith("TRAPPED_CHEST") ||
-                            item.getType().toString().endsWith("BARREL") ||
-                            item.getType().toString().endsWith("DISPENSER") ||
-                            item.getType().toString().endsWith("DROPPER") ||
-                            item.getType().toString().endsWith("HOPPER")
-                    ) {
-                        totalSize += processContainerItem(item);
-                    } else {
-                        totalSize += calculateStringSizeInBytes(item.toString());
-
-                    }
-                }
-            }
-        }
-        return totalSize;
-    }
-
-    public static int calculateStringSizeInBytes(String data) {
-        String plainData = GlobalUtils.getStringContent(Component.text(data));
-        byte[] byteArray = plainData.getBytes(StandardCharsets.UTF_8);
-        return byteArray.length;
-    }
-
     public static String getItemName(ItemStack itemStack) {
         if (itemStack == null) {
             return "";
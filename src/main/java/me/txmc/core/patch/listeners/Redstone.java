@@ -1,8 +1,9 @@
 package me.txmc.core.patch.listeners;
 
-import me.txmc.core.ViolationManager;
 import me.txmc.core.patch.PatchSection;
-import me.txmc.core.util.GlobalUtils;
+import me.txmc.core.telemetry.RegionTelemetry;
+import me.txmc.core.util.ChunkKeys;
+import me.txmc.core.util.LongStateTable;
 import org.bukkit.block.Block;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.event.Cancellable;
@@ -13,19 +14,34 @@ import org.bukkit.event.block.BlockPistonExtendEvent;
 import org.bukkit.event.block.BlockPistonRetractEvent;
 import org.bukkit.event.block.BlockRedstoneEvent;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
 
 /**
+ * Limits how many redstone operations a chunk may do, with a stricter limit while its region is lagging.
+ *
+ * <p>Each chunk has a token bucket that holds up to {@code StrictMaxVLS} or {@code RegularMaxVLS} operations and
+ * regains {@link #REFILL_PER_SECOND} every second, the same limits the violation counter this replaces had.</p>
+ *
+ * <p>Every region keeps its own token buckets and a tps sample that is refreshed at most once per tick, so the
+ * decision is made synchronously inside the event and can still cancel it. Since a region is only ever ticked
+ * by one thread at a time its state needs no locking.</p>
+ *
  * @author 254n_m
  * @since 2024/02/21 10:16 PM
  * This file was created as a part of 8b8tCore
  */
-public class Redstone extends ViolationManager implements Listener {
+public class Redstone implements Listener {
+    private static final long TICK_NANOS = 50_000_000L;
+    private static final long IDLE_NANOS = 60_000_000_000L;
+    private static final long EPOCH = System.nanoTime();
+    private static final int REFILL_PER_SECOND = 300;
     private final PatchSection main;
-    private final ThreadLocalRandom random = ThreadLocalRandom.current();
+    private final Map<Object, RegionState> regions = new ConcurrentHashMap<>();
+    private volatile Settings settings;
 
     public Redstone(PatchSection main) {
-        super(1, 300, main.plugin());
         this.main = main;
     }
 
@@ -44,25 +60,48 @@ public class Redstone extends ViolationManager implements Listener {
         process(event);
     }
 
-
     private void process(BlockEvent event) {
-        ConfigurationSection config = main.config().getConfigurationSection("Redstone");
         Block block = event.getBlock();
-        int vls = getVLS(block.getChunk().hashCode());
+        RegionState region = currentRegion();
+        if (region == null) return;
+        Settings settings = settings();
+        long now = System.nanoTime();
+        region.sample(now, telemetry());
+        int limit = region.tps >= 0 && region.tps < settings.strictTps ? settings.strictMax : settings.regularMax;
+        if (region.tryAcquire(ChunkKeys.worldChunkKey(block), limit, REFILL_PER_SECOND, now - EPOCH)) return;
 
-        increment(block.getChunk().hashCode());
-        GlobalUtils.getRegionTps(block.getLocation()).thenAccept(tps -> {
-            if (tps < config.getInt("StrictTPS") && vls > config.getInt("StrictMaxVLS")) {
-                cancelEvent(event);
-                if (shouldBreakBlock()) block.breakNaturally();
-            } else {
-                if (vls > config.getInt("RegularMaxVLS")) {
-                    if (shouldBreakBlock()) event.getBlock().breakNaturally();
-                    cancelEvent(event);
-                }
-            }
-        });
+        cancelEvent(event);
+        if (shouldBreakBlock()) block.breakNaturally();
+    }
+
+    private RegionState currentRegion() {
+        Object handle = telemetry().currentRegion();
+        if (handle == null) return null;
+        // Always go through the map, a state cached per thread could outlive its eviction and be doubled up
+        RegionState state = regions.get(handle);
+        if (state == null) {
+            // Regions merge and split, drop the ones that have not seen redstone in a while
+            long now = System.nanoTime();
+            regions.values().removeIf(region -> now - region.lastUsed > IDLE_NANOS);
+            state = regions.computeIfAbsent(handle, h -> new RegionState());
+        }
+        return state;
     }
+
+    private RegionTelemetry telemetry() {
+        return main.plugin().getRegionTelemetry();
+    }
+
+    private Settings settings() {
+        ConfigurationSection config = main.config();
+        Settings settings = this.settings;
+        if (settings == null || settings.source != config) {
+            ConfigurationSection section = config.getConfigurationSection("Redstone");
+            this.settings = settings = new Settings(config, section.getDouble("StrictTPS"), section.getInt("StrictMaxVLS"), section.getInt("RegularMaxVLS"));
+        }
+        return settings;
+    }
+
     private void cancelEvent(BlockEvent event) {
         if (event instanceof BlockRedstoneEvent) {
             ((BlockRedstoneEvent)event).setNewCurrent(0);
@@ -70,6 +109,70 @@ public class Redstone extends ViolationManager implements Listener {
     }
 
     private boolean shouldBreakBlock() {
-        return random.nextInt(0, 10) == 1;
+        return ThreadLocalRandom.current().nextInt(0, 10) == 1;
+    }
+
+    private record Settings(ConfigurationSection source, double strictTps, int strictMax, int regularMax) {
+    }
+
+    /**
+     * State of one region, only touched by the thread currently ticking it
+     */
+    private static class RegionState {
+        private double tps = -1;
+        private long sampledAt = Long.MIN_VALUE;
+        private volatile long lastUsed = System.nanoTime();
+        private long rotatedAt = System.nanoTime();
+        private LongStateTable buckets = new LongStateTable();
+        private LongStateTable idleBuckets = new LongStateTable();
+
+        private void sample(long now, RegionTelemetry telemetry) {
+            lastUsed = now;
+            if (now - sampledAt < TICK_NANOS) return;
+            sampledAt = now;
+            tps = telemetry.getCurrentRegionStats().tps15s();
+            // A missing bucket is a full one, buckets idle for a whole minute have regained at least 18000 operations and are dropped together
+            if (now - rotatedAt > IDLE_NANOS) {
+                rotatedAt = now;
+                idleBuckets = buckets;
+                buckets = new LongStateTable();
+            }
+        }
+
+        /**
+         * Buckets are packed as the millis they were last refilled at followed by 24 bits of tokens
+         * @return true if the chunk had a token left
+         */
+        private boolean tryAcquire(long chunkKey, int capacity, int perSecond, long nanos) {
+            if (capacity <= 0) return false;
+            int hash = LongStateTable.hash(chunkKey);
+            long state = buckets.get(chunkKey, hash);
+            if (state == 0) state = idleBuckets.remove(chunkKey, hash);
+            long millis = nanos / 1_000_000L + 1;
+            capacity = Math.min(capacity, 0xFFFFFF);
+            long tokens;
+            long refilledAt;
+            if (state == 0) {
+                tokens = capacity;
+                refilledAt = millis;
+            } else {
+                tokens = state & 0xFFFFFF;
+                refilledAt = state >>> 24;
+                long refill = (millis - refilledAt) * perSecond / 1000;
+                if (refill > 0) {
+                    tokens += refill;
+                    // Only advance by the time the whole tokens took so slow refill rates still add up
+                    refilledAt += refill * 1000 / perSecond;
+                }
+                if (tokens >= capacity) {
+                    tokens = capacity;
+                    refilledAt = millis;
+                }
+            }
+            boolean allowed = tokens > 0;
+            if (allowed) tokens--;
+            buckets.put(chunkKey, hash, refilledAt << 24 | tokens);
+            return allowed;
+        }
     }
 }
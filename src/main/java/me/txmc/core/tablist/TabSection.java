@@ -1,20 +1,27 @@
 package me.txmc.core.tablist;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.experimental.Accessors;
 import me.txmc.core.Localization;
 import me.txmc.core.Main;
 import me.txmc.core.Section;
 import me.txmc.core.customexperience.util.PrefixManager;
 import me.txmc.core.tablist.listeners.PlayerJoinListener;
+import me.txmc.core.tablist.listeners.PlayerQuitListener;
+import me.txmc.core.tablist.util.TabTemplate;
 import me.txmc.core.tablist.util.Utils;
 import me.txmc.core.tablist.worker.TabWorker;
-import me.txmc.core.util.GlobalUtils;
-import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
 
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author 254n_m
@@ -22,26 +29,37 @@ import java.util.concurrent.TimeUnit;
  * This file was created as a part of 8b8tCore
  */
 @RequiredArgsConstructor
+@Accessors(fluent = true)
 public class TabSection implements Section {
-    private final Main plugin;
+    @Getter private final Main plugin;
+    private final AtomicInteger generation = new AtomicInteger();
+    private final AtomicInteger slot = new AtomicInteger();
     private ConfigurationSection config;
+    @Getter private volatile int refreshInterval;
+    @Getter private volatile int maxSlowdown;
     private final PrefixManager prefixManager = new PrefixManager();
+    private final Map<Localization, TabTemplate[]> templates = new ConcurrentHashMap<>();
+    private final Map<UUID, SentTab> sent = new ConcurrentHashMap<>();
+    private final Map<UUID, ListName> listNames = new ConcurrentHashMap<>();
 
     @Override
     public void enable() {
         config = plugin.getSectionConfig(this);
-        plugin.getExecutorService().scheduleAtFixedRate(new TabWorker(this), 0, 500, TimeUnit.MILLISECONDS);
-        plugin.register(new PlayerJoinListener(this));
+        readSettings();
+        Bukkit.getOnlinePlayers().forEach(this::startRefreshing);
+        plugin.register(new PlayerJoinListener(this), new PlayerQuitListener(this));
     }
 
     @Override
     public void disable() {
-
+        generation.incrementAndGet();
     }
 
     @Override
     public void reloadConfig() {
         config = plugin.getSectionConfig(this);
+        readSettings();
+        templates.clear();
     }
 
     @Override
@@ -49,23 +67,84 @@ public class TabSection implements Section {
         return "TabList";
     }
 
+    /**
+     * Refreshes the tab list of the player right away and keeps refreshing it on the player's scheduler
+     */
+    public void startRefreshing(Player player) {
+        // Consecutive players get consecutive phases so refreshes are spread evenly over the interval
+        long phase = Math.floorMod(slot.getAndIncrement(), refreshInterval);
+        player.getScheduler().run(plugin, task -> setTab(player), null);
+        new TabWorker(this, player, generation.get()).start(phase + 1);
+    }
+
+    public int generation() {
+        return generation.get();
+    }
+
+    private void readSettings() {
+        refreshInterval = config == null ? 10 : Math.max(1, config.getInt("RefreshInterval", 10));
+        maxSlowdown = config == null ? 4 : Math.max(1, config.getInt("MaxSlowdown", 4));
+        PrefixManager.setFrameInterval(config == null ? 500 : config.getLong("PrefixFrameInterval", 500));
+    }
+
     public void setTab(Player player) {
 
-        String tag = prefixManager.getPrefix(player);
+        updateListName(player);
 
-        tag = GlobalUtils.convertToMiniMessageFormat(tag);
-        Component displayNameComponent = player.displayName();
+        Localization loc = Localization.of(player);
+        TabTemplate[] tabTemplates = templates.computeIfAbsent(loc, l -> new TabTemplate[]{
+                new TabTemplate(l.getStringList("TabList.Header")),
+                new TabTemplate(l.getStringList("TabList.Footer"))
+        });
+        String[] values = Utils.placeholderValues(player, plugin.getStartTime());
+        String headerKey = renderKey(tabTemplates[0], values);
+        String footerKey = renderKey(tabTemplates[1], values);
+        SentTab last = sent.get(player.getUniqueId());
+        boolean sendHeader = last == null || last.header != tabTemplates[0] || !last.headerKey.equals(headerKey);
+        boolean sendFooter = last == null || last.footer != tabTemplates[1] || !last.footerKey.equals(footerKey);
+        if (!sendHeader && !sendFooter) return;
 
-        Component tagComponent = MiniMessage.miniMessage().deserialize(tag);
+        Component[] components = Utils.placeholderComponents(values);
+        if (sendHeader) player.sendPlayerListHeader(tabTemplates[0].render(components));
+        if (sendFooter) player.sendPlayerListFooter(tabTemplates[1].render(components));
+        sent.put(player.getUniqueId(), new SentTab(tabTemplates[0], headerKey, tabTemplates[1], footerKey));
+    }
 
-        Component fullName = tagComponent.append(displayNameComponent);
+    /**
+     * Sets the player's list name only when its prefix, prefix frame or display name changed, every change is
+     * sent to every online player
+     */
+    private void updateListName(Player player) {
+        String permission = prefixManager.getPrefixPermission(player);
+        int frame = permission == null ? -1 : PrefixManager.currentFrame();
+        Component displayName = player.displayName();
+        ListName last = listNames.get(player.getUniqueId());
+        if (last != null && Objects.equals(last.permission, permission) && last.frame == frame && last.displayName.equals(displayName)) return;
 
+        Component fullName = permission == null ? displayName : prefixManager.getPrefixComponent(permission, frame).append(displayName);
         player.playerListName(fullName);
+        listNames.put(player.getUniqueId(), new ListName(permission, frame, displayName));
+    }
+
+    public void forget(Player player) {
+        sent.remove(player.getUniqueId());
+        listNames.remove(player.getUniqueId());
+    }
+
+    /**
+     * @return The values of the slots the template uses, equal keys render equal components
+     */
+    private String renderKey(TabTemplate template, String[] values) {
+        StringBuilder key = new StringBuilder();
+        for (TabTemplate.Slot slot : TabTemplate.Slot.values()) {
+            if (template.uses(slot)) key.append(values[slot.ordinal()]).append('\0');
+        }
+        return key.toString();
+    }
+
+    private record ListName(String permission, int frame, Component displayName) {
+    }
 
-        Localization loc = Localization.getLocalization(player.locale().getLanguage());
-        Utils.parsePlaceHolders(String.join("\n", loc.getStringList("TabList.Header")), player, plugin.getStartTime())
-                .thenAccept(player::sendPlayerListHeader);
-        Utils.parsePlaceHolders(String.join("\n", loc.getStringList("TabList.Footer")), player, plugin.getStartTime())
-                .thenAccept(player::sendPlayerListFooter);
+    private record SentTab(TabTemplate header, String headerKey, TabTemplate footer, String footerKey) {
     }
-}
\ No newline at end of file
+}
@@ -16,6 +16,6 @@ public class PlayerJoinListener implements Listener {
     private final TabSection main;
     @EventHandler
     public void onJoin(PlayerJoinEvent event) {
-        main.setTab(event.getPlayer());
+        main.startRefreshing(event.getPlayer());
     }
 }
@@ -0,0 +1,24 @@
+package me.txmc.core.tablist.listeners;
+
+import lombok.RequiredArgsConstructor;
+import me.txmc.core.tablist.TabSection;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Forgets what tab list a player was last sent once they leave.
+ *
+ * @author 0x15d3v2
+ * @since 2026/10/16 7:55 PM
+ * This file was created as a part of 8b8tCore
+ */
+@RequiredArgsConstructor
+public class PlayerQuitListener implements Listener {
+    private final TabSection main;
+
+    @EventHandler
+    public void onQuit(PlayerQuitEvent event) {
+        main.forget(event.getPlayer());
+    }
+}
@@ -0,0 +1,51 @@
+package me.txmc.core.tablist.util;
+
+import me.txmc.core.util.ComponentTemplate;
+import me.txmc.core.util.GlobalUtils;
+import net.kyori.adventure.text.Component;
+
+import java.util.List;
+
+/**
+ * A tab list header or footer parsed once into a component tree with slots for its placeholders.
+ *
+ * @author 0x15d3v2
+ * @since 2026/10/16 7:50 PM
+ * This file was created as a part of 8b8tCore
+ */
+public class TabTemplate {
+    private final ComponentTemplate template;
+
+    public enum Slot {
+        TPS("%tps%"),
+        PLAYERS("%players%"),
+        PING("%ping%"),
+        UPTIME("%uptime%");
+
+        private final String placeholder;
+
+        Slot(String placeholder) {
+            this.placeholder = placeholder;
+        }
+    }
+
+    public TabTemplate(List<String> lines) {
+        String raw = String.join("\n", lines);
+        for (Slot slot : Slot.values()) raw = raw.replace(slot.placeholder, ComponentTemplate.marker(slot.ordinal()));
+        template = new ComponentTemplate(GlobalUtils.translateChars(raw));
+    }
+
+    /**
+     * @return true if the template has a slot for the given placeholder
+     */
+    public boolean uses(Slot slot) {
+        return template.uses(slot.ordinal());
+    }
+
+    /**
+     * @param values The value of every slot indexed by {@link Slot#ordinal()}, only the ones the template uses are read
+     */
+    public Component render(Component[] values) {
+        return template.render(values);
+    }
+}
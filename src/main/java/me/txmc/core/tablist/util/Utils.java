@@ -1,11 +1,12 @@
 package me.txmc.core.tablist.util;
 
-import me.txmc.core.util.GlobalUtils;
+import me.txmc.core.Main;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 
-import java.util.concurrent.CompletableFuture;
+import java.util.Locale;
 
 /**
  * @author 254n_m
@@ -14,17 +15,30 @@ import java.util.concurrent.CompletableFuture;
  */
 public class Utils {
 
-    public static CompletableFuture<Component> parsePlaceHolders(String input, Player player, long startTime) {
-        CompletableFuture<Component> future = new CompletableFuture<>();
-        GlobalUtils.getTpsNearEntity(player).thenAccept(tps -> {
-            String strTps = (tps >= 20) ? String.format("%s20.00", "<green>") : String.format("%s%.2f", Utils.getTPSColor(tps), tps);
-            String uptime = Utils.getFormattedInterval(System.currentTimeMillis() - startTime);
-            String online = String.valueOf(Bukkit.getOnlinePlayers().size());
-            String ping = String.valueOf(player.getPing());
-            future.complete(GlobalUtils.translateChars(input.replace("%tps%", strTps).replace("%players%", online).replace("%ping%", ping).replace("%uptime%", uptime)));
-        }); //Stopgap until folia adds an api for getting region TPS
-        return future;
+    /**
+     * @return The text of every placeholder indexed by {@link TabTemplate.Slot#ordinal()}
+     */
+    public static String[] placeholderValues(Player player, long startTime) {
+        double tps = Main.getInstance().getRegionTelemetry().getRegionStats(player).tps15s();
+        String[] values = new String[TabTemplate.Slot.values().length];
+        values[TabTemplate.Slot.TPS.ordinal()] = tps < 0 ? "--" : String.format(Locale.ROOT, "%.2f", Math.min(tps, 20));
+        values[TabTemplate.Slot.PLAYERS.ordinal()] = String.valueOf(Bukkit.getOnlinePlayers().size());
+        values[TabTemplate.Slot.PING.ordinal()] = String.valueOf(player.getPing());
+        values[TabTemplate.Slot.UPTIME.ordinal()] = getFormattedInterval(System.currentTimeMillis() - startTime);
+        return values;
     }
+
+    /**
+     * @return The placeholder texts as components, the tps is colored by how healthy it is
+     */
+    public static Component[] placeholderComponents(String[] values) {
+        Component[] components = new Component[values.length];
+        for (int i = 0; i < values.length; i++) components[i] = Component.text(values[i]);
+        String tps = values[TabTemplate.Slot.TPS.ordinal()];
+        components[TabTemplate.Slot.TPS.ordinal()] = Component.text(tps, tps.equals("--") ? NamedTextColor.GRAY : getTPSColor(Double.parseDouble(tps)));
+        return components;
+    }
+
     public static String getFormattedInterval(long ms) {
         long seconds = ms / 1000L % 60L;
         long minutes = ms / 60000L % 60L;
@@ -32,11 +46,11 @@ public class Utils {
         long days = ms / 86400000L;
         return String.format("%dd %02dh %02dm %02ds", days, hours, minutes, seconds);
     }
-    public static String getTPSColor(double tps) {
+    public static NamedTextColor getTPSColor(double tps) {
         if (tps >= 18.0D) {
-            return "<green>";
+            return NamedTextColor.GREEN;
         } else {
-            return tps >= 13.0D ? "<yellow>" : "<red>";
+            return tps >= 13.0D ? NamedTextColor.YELLOW : NamedTextColor.RED;
         }
     }
 
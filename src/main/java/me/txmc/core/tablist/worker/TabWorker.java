@@ -1,19 +1,54 @@
 package me.txmc.core.tablist.worker;
 
-import lombok.RequiredArgsConstructor;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
 import me.txmc.core.tablist.TabSection;
-import org.bukkit.Bukkit;
+import me.txmc.core.telemetry.RegionStats;
+import org.bukkit.entity.Player;
+
+import java.util.function.Consumer;
 
 /**
+ * Refreshes the tab list of a single player on the player's own scheduler, so the work is done by the
+ * thread ticking the player's region and spread over the refresh interval instead of happening all at once.
+ *
+ * <p>The next refresh is pushed back while the region is running behind, up to MaxSlowdown times the
+ * configured interval. The task stops by itself once the player leaves or the section is disabled.</p>
+ *
  * @author 254n_m
  * @since 2023/12/17 11:58 PM
  * This file was created as a part of 8b8tCore
  */
-@RequiredArgsConstructor
-public class TabWorker implements Runnable {
+public class TabWorker implements Consumer<ScheduledTask> {
+    private static final double TICK_MSPT = 50.0;
     private final TabSection main;
+    private final Player player;
+    private final int generation;
+
+    public TabWorker(TabSection main, Player player, int generation) {
+        this.main = main;
+        this.player = player;
+        this.generation = generation;
+    }
+
+    /**
+     * @param phase How many ticks to wait before the first refresh, used to spread players over the interval
+     */
+    public void start(long phase) {
+        player.getScheduler().runDelayed(main.plugin(), this, null, Math.max(1, phase));
+    }
+
     @Override
-    public void run() {
-        Bukkit.getOnlinePlayers().forEach(main::setTab);
+    public void accept(ScheduledTask task) {
+        if (generation != main.generation() || !player.isOnline()) return;
+        main.setTab(player);
+        player.getScheduler().runDelayed(main.plugin(), this, null, nextDelay());
+    }
+
+    private long nextDelay() {
+        long interval = main.refreshInterval();
+        RegionStats stats = main.plugin().getRegionTelemetry().getCurrentRegionStats();
+        if (!stats.isKnown() || stats.mspt5s() <= TICK_MSPT) return interval;
+        double slowdown = Math.min(main.maxSlowdown(), stats.mspt5s() / TICK_MSPT);
+        return Math.max(interval, Math.round(interval * slowdown));
     }
 }
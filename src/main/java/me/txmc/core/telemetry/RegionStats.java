@@ -0,0 +1,20 @@
+package me.txmc.core.telemetry;
+
+/**
+ * Averages of a region's tps and mspt over the last 5 seconds, 15 seconds and minute.
+ *
+ * @param sampledAt When the latest sample was taken in {@link System#nanoTime()}, 0 for {@link #UNKNOWN}
+ * @author 0x15d3v2
+ * @since 2026/10/16 7:30 PM
+ * This file was created as a part of 8b8tCore
+ */
+public record RegionStats(double tps5s, double tps15s, double tps1m, double mspt5s, double mspt15s, double mspt1m, long sampledAt) {
+    /**
+     * Returned when nothing is known about the region, every value is -1
+     */
+    public static final RegionStats UNKNOWN = new RegionStats(-1, -1, -1, -1, -1, -1, 0);
+
+    public boolean isKnown() {
+        return sampledAt != 0;
+    }
+}
@@ -0,0 +1,236 @@
+package me.txmc.core.telemetry;
+
+import me.txmc.core.Main;
+import me.txmc.core.util.ChunkKeys;
+import me.txmc.core.util.GlobalUtils;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * Keeps track of how healthy every Folia region with a player in it is.
+ *
+ * <p>Once a second every online player's scheduler samples the region it is ticked in, regions shared by
+ * several players are only sampled once. Samples go into per-region ring buffers holding a minute of
+ * history. Lookups never block or schedule anything, they return {@link RegionStats#UNKNOWN} when nothing
+ * is known about the region yet.</p>
+ *
+ * <p>The scheduler internals are resolved once into method handles. On servers that are not Folia every
+ * lookup returns {@link RegionStats#UNKNOWN}.</p>
+ *
+ * @author 0x15d3v2
+ * @since 2026/10/16 7:30 PM
+ * This file was created as a part of 8b8tCore
+ */
+public class RegionTelemetry {
+    private static final long SAMPLE_NANOS = 1_000_000_000L;
+    private static final long STALE_NANOS = 10_000_000_000L;
+    private static final Handles HANDLES = Handles.resolve();
+    private final Main plugin;
+    private final Map<Object, Region> regions = new ConcurrentHashMap<>();
+    private volatile Map<Long, Region> chunks = new ConcurrentHashMap<>();
+    private volatile Map<Long, Region> nextChunks = new ConcurrentHashMap<>();
+    private ScheduledFuture<?> task;
+
+    public RegionTelemetry(Main plugin) {
+        this.plugin = plugin;
+    }
+
+    public void start() {
+        if (HANDLES == null) return;
+        task = plugin.getExecutorService().scheduleAtFixedRate(this::sampleRound, 1, 1, TimeUnit.SECONDS);
+    }
+
+    public void stop() {
+        if (task != null) task.cancel(false);
+    }
+
+    /**
+     * @return The stats of the region the location is in, {@link RegionStats#UNKNOWN} if the region has not been sampled
+     */
+    public RegionStats getRegionStats(Location location) {
+        if (HANDLES == null || location.getWorld() == null) return RegionStats.UNKNOWN;
+        // Callers on the owning thread can sample the region themselves
+        if (Bukkit.isOwnedByCurrentRegion(location)) return getCurrentRegionStats();
+        long key = ChunkKeys.worldChunkKey(location);
+        Region region = chunks.get(key);
+        if (region == null) region = nextChunks.get(key);
+        return region == null ? RegionStats.UNKNOWN : region.stats;
+    }
+
+    public RegionStats getRegionStats(Player player) {
+        return getRegionStats(player.getLocation());
+    }
+
+    /**
+     * @return The stats of the region the current thread is ticking, sampling it if it has not been sampled in the last second
+     */
+    public RegionStats getCurrentRegionStats() {
+        Object handle = currentRegion();
+        if (handle == null) return RegionStats.UNKNOWN;
+        Region region = regions.computeIfAbsent(handle, Region::new);
+        region.sampleIfDue(System.nanoTime());
+        return region.stats;
+    }
+
+    /**
+     * @return The region the current thread is ticking or null if it is not ticking one
+     */
+    public Object currentRegion() {
+        if (HANDLES == null) return null;
+        try {
+            return (Object) HANDLES.currentRegion.invokeExact();
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
+    /**
+     * @return The stats of every region that has been sampled recently
+     */
+    public Collection<RegionStats> getAllRegionStats() {
+        return regions.values().stream().map(region -> region.stats).filter(RegionStats::isKnown).toList();
+    }
+
+    private void sampleRound() {
+        long now = System.nanoTime();
+        chunks = nextChunks;
+        nextChunks = new ConcurrentHashMap<>();
+        regions.values().removeIf(region -> now - region.stats.sampledAt() > STALE_NANOS && now - region.created > STALE_NANOS);
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            player.getScheduler().run(plugin, task -> {
+                Object handle = currentRegion();
+                if (handle == null) return;
+                Region region = regions.computeIfAbsent(handle, Region::new);
+                region.sampleIfDue(System.nanoTime());
+                Location location = player.getLocation();
+                nextChunks.put(ChunkKeys.worldChunkKey(location), region);
+            }, null);
+        }
+    }
+
+    /**
+     * A minute of samples of one region, only sampled by the thread ticking it
+     */
+    private static class Region {
+        private static final int SIZE = 60;
+        private final Object handle;
+        private final long created = System.nanoTime();
+        private final double[] tps = new double[SIZE];
+        private final double[] mspt = new double[SIZE];
+        private int head;
+        private int count;
+        private long sampledAt;
+        private volatile RegionStats stats = RegionStats.UNKNOWN;
+
+        private Region(Object handle) {
+            this.handle = handle;
+        }
+
+        private synchronized void sampleIfDue(long now) {
+            if (sampledAt != 0 && now - sampledAt < SAMPLE_NANOS) return;
+            sampledAt = now;
+            double[] sample = HANDLES.sample(handle, now);
+            if (sample == null) return;
+            tps[head] = sample[0];
+            mspt[head] = sample[1];
+            head = (head + 1) % SIZE;
+            if (count < SIZE) count++;
+            stats = new RegionStats(average(tps, 5), average(tps, 15), average(tps, SIZE),
+                    average(mspt, 5), average(mspt, 15), average(mspt, SIZE), now);
+        }
+
+        private double average(double[] values, int window) {
+            int n = Math.min(window, count);
+            double sum = 0;
+            for (int i = 1; i <= n; i++) sum += values[(head - i + SIZE) % SIZE];
+            return sum / n;
+        }
+    }
+
+    /**
+     * TickRegionScheduler.getCurrentRegion().getData().getRegionSchedulingHandle().getTickReport5s(now) and the
+     * averages of its tps and time per tick data
+     */
+    private static class Handles {
+        private final MethodHandle currentRegion;
+        private volatile MethodHandle[] chain;
+        private volatile boolean failed;
+
+        private Handles(MethodHandle currentRegion) {
+            this.currentRegion = currentRegion;
+        }
+
+        private static Handles resolve() {
+            try {
+                Method method = Class.forName("io.papermc.paper.threadedregions.TickRegionScheduler").getDeclaredMethod("getCurrentRegion");
+                return new Handles(MethodHandles.publicLookup().unreflect(method).asType(MethodType.methodType(Object.class)));
+            } catch (Throwable t) {
+                return null;
+            }
+        }
+
+        /**
+         * @return The tps and mspt of the last 5 seconds or null if they can't be read
+         */
+        private double[] sample(Object region, long now) {
+            if (failed) return null;
+            try {
+                MethodHandle[] chain = this.chain;
+                if (chain == null) this.chain = chain = resolveChain(region, now);
+                Object tickData = (Object) chain[0].invokeExact(region);
+                Object handle = (Object) chain[1].invokeExact(tickData);
+                Object report = (Object) chain[2].invokeExact(handle, now);
+                Object tpsAll = (Object) chain[4].invokeExact((Object) chain[3].invokeExact(report));
+                Object timeAll = (Object) chain[4].invokeExact((Object) chain[5].invokeExact(report));
+                double tps = (double) chain[6].invokeExact(tpsAll);
+                double nanosPerTick = (double) chain[6].invokeExact(timeAll);
+                return new double[]{tps, nanosPerTick / 1_000_000.0};
+            } catch (Throwable t) {
+                failed = true;
+                GlobalUtils.log(Level.WARNING, "Failed to read region tps, region telemetry is disabled. %s", t);
+                return null;
+            }
+        }
+
+        /**
+         * The classes along the chain are only known once a region is at hand
+         */
+        private static MethodHandle[] resolveChain(Object region, long now) throws Throwable {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            MethodHandle getData = lookup.unreflect(region.getClass().getDeclaredMethod("getData"));
+            Object tickData = getData.invoke(region);
+            MethodHandle getHandle = lookup.unreflect(tickData.getClass().getDeclaredMethod("getRegionSchedulingHandle"));
+            Object handle = getHandle.invoke(tickData);
+            MethodHandle getReport = lookup.unreflect(handle.getClass().getMethod("getTickReport5s", long.class));
+            Object report = getReport.invoke(handle, now);
+            MethodHandle tpsData = lookup.unreflect(report.getClass().getDeclaredMethod("tpsData"));
+            MethodHandle timeData = lookup.unreflect(report.getClass().getDeclaredMethod("timePerTickData"));
+            Object segmented = tpsData.invoke(report);
+            MethodHandle segmentAll = lookup.unreflect(segmented.getClass().getDeclaredMethod("segmentAll"));
+            Object segment = segmentAll.invoke(segmented);
+            MethodHandle average = lookup.unreflect(segment.getClass().getDeclaredMethod("average"));
+            MethodType getter = MethodType.methodType(Object.class, Object.class);
+            return new MethodHandle[]{
+                    getData.asType(getter),
+                    getHandle.asType(getter),
+                    getReport.asType(MethodType.methodType(Object.class, Object.class, long.class)),
+                    tpsData.asType(getter),
+                    segmentAll.asType(getter),
+                    timeData.asType(getter),
+                    average.asType(MethodType.methodType(double.class, Object.class))
+            };
+        }
+    }
+}
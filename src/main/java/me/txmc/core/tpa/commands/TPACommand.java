@@ -59,7 +59,7 @@ public class TPACommand implements CommandExecutor {
                 TextReplacementConfig acceptReplace = TextReplacementConfig.builder().match("accept").replacement(acceptButton).build();
                 TextReplacementConfig denyReplace = TextReplacementConfig.builder().match("deny").replacement(denyButton).build();
 
-                Localization loc = Localization.getLocalization(to.locale().getLanguage());
+                Localization loc = Localization.of(to);
                 String str = String.format(loc.get("tpa_request_received"), from.getName(), "accept", "deny");
                 TextComponent component = (TextComponent) GlobalUtils.translateChars(str).replaceText(acceptReplace).replaceText(denyReplace);
                 if (main.hasRequested(from, to) || main.hasHereRequested(from, to)) {
@@ -0,0 +1,41 @@
+package me.txmc.core.util;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+
+/**
+ * Packs chunk coordinates into primitive long keys without loading the chunk object.
+ *
+ * @author 0x15d3v2
+ * @since 2026/10/16 11:40 PM
+ * This file was created as a part of 8b8tCore
+ */
+public final class ChunkKeys {
+    private ChunkKeys() {
+    }
+
+    /**
+     * @return The same key as {@link org.bukkit.Chunk#getChunkKey()}, for maps that are already split by world
+     */
+    public static long chunkKey(int chunkX, int chunkZ) {
+        return (long) chunkX & 0xFFFFFFFFL | ((long) chunkZ & 0xFFFFFFFFL) << 32;
+    }
+
+    /**
+     * Keeps 22 bits of each coordinate, which covers the whole world border, and 20 bits of the world's uid hash
+     *
+     * @return A key for maps that hold chunks of every world
+     */
+    public static long worldChunkKey(World world, int chunkX, int chunkZ) {
+        return (chunkX & 0x3FFFFFL) | (chunkZ & 0x3FFFFFL) << 22 | (world.getUID().hashCode() & 0xFFFFFL) << 44;
+    }
+
+    public static long worldChunkKey(Location location) {
+        return worldChunkKey(location.getWorld(), location.getBlockX() >> 4, location.getBlockZ() >> 4);
+    }
+
+    public static long worldChunkKey(Block block) {
+        return worldChunkKey(block.getWorld(), block.getX() >> 4, block.getZ() >> 4);
+    }
+}
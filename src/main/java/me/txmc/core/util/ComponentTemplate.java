@@ -0,0 +1,111 @@
+package me.txmc.core.util;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A component tree parsed once with numbered slots that are filled in when it is rendered.
+ *
+ * <p>Slots are written into the source as private use characters, see {@link #marker(int)}, before it is
+ * parsed, so the markup around them is parsed only once. Rendering rebuilds just the components on the way
+ * to a slot and shares every other component of the tree. Slots only work in the text of the tree, a marker
+ * inside a hover or click event is left as is, callers can tell by checking {@link #uses(int)}.</p>
+ *
+ * @author 0x15d3v2
+ * @since 2026/10/16 8:20 PM
+ * This file was created as a part of 8b8tCore
+ */
+public class ComponentTemplate {
+    private static final char MARKER = '\uE000';
+    private static final int MAX_SLOTS = 256;
+    private final Component compiled;
+    private final Set<Component> withSlots = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<Component, Object[]> parts = new IdentityHashMap<>();
+    private final BitSet slots = new BitSet();
+
+    public ComponentTemplate(Component compiled) {
+        this.compiled = compiled;
+        compile(compiled);
+    }
+
+    /**
+     * @return The text to put into the source where the given slot should go
+     */
+    public static String marker(int slot) {
+        if (slot < 0 || slot >= MAX_SLOTS) throw new IllegalArgumentException("Slot out of range " + slot);
+        return String.valueOf((char) (MARKER + slot));
+    }
+
+    /**
+     * @return true if the slot appears in the text of the tree
+     */
+    public boolean uses(int slot) {
+        return slots.get(slot);
+    }
+
+    public int slotCount() {
+        return slots.cardinality();
+    }
+
+    /**
+     * @param values The value of every slot indexed by slot number, only the ones the template uses are read
+     */
+    public Component render(Component[] values) {
+        return render(compiled, values);
+    }
+
+    private boolean compile(Component component) {
+        boolean hasSlots = false;
+        if (component instanceof TextComponent text) {
+            Object[] split = split(text.content());
+            if (split != null) {
+                parts.put(component, split);
+                hasSlots = true;
+            }
+        }
+        for (Component child : component.children()) hasSlots |= compile(child);
+        if (hasSlots) withSlots.add(component);
+        return hasSlots;
+    }
+
+    /**
+     * @return The literal strings and slot numbers the content consists of or null if it has no slots
+     */
+    private Object[] split(String content) {
+        List<Object> split = null;
+        int literalStart = 0;
+        for (int i = 0; i < content.length(); i++) {
+            int slot = content.charAt(i) - MARKER;
+            if (slot < 0 || slot >= MAX_SLOTS) continue;
+            if (split == null) split = new ArrayList<>();
+            if (i > literalStart) split.add(content.substring(literalStart, i));
+            split.add(slot);
+            slots.set(slot);
+            literalStart = i + 1;
+        }
+        if (split == null) return null;
+        if (literalStart < content.length()) split.add(content.substring(literalStart));
+        return split.toArray();
+    }
+
+    private Component render(Component component, Component[] values) {
+        if (!withSlots.contains(component)) return component;
+        List<Component> children = new ArrayList<>();
+        Object[] split = parts.get(component);
+        Component base = component;
+        if (split != null) {
+            base = Component.text("", component.style());
+            for (Object part : split) children.add(part instanceof Integer slot ? values[slot] : Component.text((String) part));
+        }
+        for (Component child : component.children()) children.add(render(child, values));
+        return base.children(children);
+    }
+}
@@ -4,6 +4,7 @@ import lombok.Cleanup;
 import lombok.Getter;
 import me.txmc.core.Localization;
 import me.txmc.core.Main;
+import me.txmc.core.telemetry.RegionStats;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.TextComponent;
 import net.kyori.adventure.text.minimessage.MiniMessage;
@@ -40,6 +41,8 @@ import java.util.Random;
 public class GlobalUtils {
     @Getter private static final String PREFIX = Main.prefix;
     private static final MiniMessage miniMessage = MiniMessage.miniMessage();
+    private static final String[] LEGACY_TAGS = legacyTags();
+    private static final LruCache<String, TextComponent> translated = new LruCache<>(2048);
 
     public static void info(String format) {
         log(Level.INFO, format);
@@ -56,33 +59,83 @@ public class GlobalUtils {
         return (TextComponent) miniMessage.deserialize(convertToMiniMessageFormat(input));
     }
 
+    /**
+     * Same as {@link #translateChars(String)} but remembers the result, only use this for strings that repeat
+     * such as localized messages without arguments and prefixes
+     */
+    public static TextComponent translateCharsCached(String input) {
+        TextComponent component = translated.get(input);
+        if (component == null) {
+            component = translateChars(input);
+            translated.put(input, component);
+        }
+        return component;
+    }
+
+    /**
+     * Turns the legacy &amp;x and &amp;#RRGGBB codes into MiniMessage tags in a single pass
+     */
     public static String convertToMiniMessageFormat(String input) {
-        input = input.replaceAll("&#([A-Fa-f0-9]{6})", "<#$1>");
-
-        input = input.replace("&l", "<bold>");
-        input = input.replace("&o", "<italic>");
-        input = input.replace("&n", "<underlined>");
-        input = input.replace("&m", "<strikethrough>");
-        input = input.replace("&k", "<obfuscated>");
-        input = input.replace("&r", "<reset>");
-        input = input.replace("&0", "<black>");
-        input = input.replace("&1", "<dark_blue>");
-        input = input.replace("&2", "<dark_green>");
-        input = input.replace("&3", "<dark_aqua>");
-        input = input.replace("&4", "<dark_red>");
-        input = input.replace("&5", "<dark_purple>");
-        input = input.replace("&6", "<gold>");
-        input = input.replace("&7", "<gray>");
-        input = input.replace("&8", "<dark_gray>");
-        input = input.replace("&9", "<blue>");
-        input = input.replace("&a", "<green>");
-        input = input.replace("&b", "<aqua>");
-        input = input.replace("&c", "<red>");
-        input = input.replace("&d", "<light_purple>");
-        input = input.replace("&e", "<yellow>");
-        input = input.replace("&f", "<white>");
-
-        return input;
+        int first = input.indexOf('&');
+        if (first < 0) return input;
+        StringBuilder builder = new StringBuilder(input.length() + 16);
+        builder.append(input, 0, first);
+        int length = input.length();
+        for (int i = first; i < length; i++) {
+            char c = input.charAt(i);
+            if (c != '&' || i + 1 >= length) {
+                builder.append(c);
+                continue;
+            }
+            char code = input.charAt(i + 1);
+            if (code == '#' && i + 8 <= length && isHex(input, i + 2, i + 8)) {
+                builder.append("<#").append(input, i + 2, i + 8).append('>');
+                i += 7;
+                continue;
+            }
+            String tag = code < LEGACY_TAGS.length ? LEGACY_TAGS[code] : null;
+            if (tag == null) {
+                builder.append(c);
+                continue;
+            }
+            builder.append(tag);
+            i++;
+        }
+        return builder.toString();
+    }
+
+    private static boolean isHex(String input, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (Character.digit(input.charAt(i), 16) < 0 || input.charAt(i) > 'f') return false;
+        }
+        return true;
+    }
+
+    private static String[] legacyTags() {
+        String[] tags = new String[128];
+        tags['l'] = "<bold>";
+        tags['o'] = "<italic>";
+        tags['n'] = "<underlined>";
+        tags['m'] = "<strikethrough>";
+        tags['k'] = "<obfuscated>";
+        tags['r'] = "<reset>";
+        tags['0'] = "<black>";
+        tags['1'] = "<dark_blue>";
+        tags['2'] = "<dark_green>";
+        tags['3'] = "<dark_aqua>";
+        tags['4'] = "<dark_red>";
+        tags['5'] = "<dark_purple>";
+        tags['6'] = "<gold>";
+        tags['7'] = "<gray>";
+        tags['8'] = "<dark_gray>";
+        tags['9'] = "<blue>";
+        tags['a'] = "<green>";
+        tags['b'] = "<aqua>";
+        tags['c'] = "<red>";
+        tags['d'] = "<light_purple>";
+        tags['e'] = "<yellow>";
+        tags['f'] = "<white>";
+        return tags;
     }
 
     public static void sendMessage(CommandSender obj, String message, Object... args) {
@@ -99,14 +152,11 @@ public class GlobalUtils {
     }
 
     public static void sendLocalizedMessage(Player player, String key, boolean prefix, Object... args) {
-        Localization loc = Localization.getLocalization(player.locale().getLanguage());
-        String msg = String.format(loc.get(key), args);
-        if (prefix) msg = PREFIX.concat(" &r&7>>&r ").concat(msg);
-        player.sendMessage(translateChars(msg));
+        player.sendMessage(Localization.of(player).getMessage(key, prefix).render(args));
     }
 
     public static void sendLocalizedAmpersandMessage(Player player, String key, boolean prefix, Object... args) {
-        Localization loc = Localization.getLocalization(player.locale().getLanguage());
+        Localization loc = Localization.of(player);
         String msg = String.format(loc.get(key), args);
         if (prefix) msg = PREFIX.concat(" &r&7>>&r ").concat(msg);
         player.sendMessage(LegacyComponentSerializer.legacyAmpersand().deserialize(msg));
@@ -115,10 +165,9 @@ public class GlobalUtils {
     public static void sendDeathMessage(String key, String victim, String killer, String weapon) {
         try {
             Localization locEnglish = Localization.getLocalization("en");
-            List<TextComponent> deathListMessages = locEnglish.getStringList(key)
-                    .stream().map(GlobalUtils::translateChars).toList();
+            List<String> deathListMessages = locEnglish.getStringList(key);
 
-            if (deathListMessages == null) {
+            if (deathListMessages.isEmpty()) {
                 return;
             }
             int msgIndex = 0;
@@ -128,7 +177,7 @@ public class GlobalUtils {
             }
 
             for (Player p : Bukkit.getOnlinePlayers()) {
-                Localization loc = Localization.getLocalization(p.locale().getLanguage());
+                Localization loc = Localization.of(p);
                 List<TextComponent> deathMessages = loc.getStringList(key)
                         .stream()
                         .map(s -> s.replace("%victim%", victim))
@@ -144,7 +193,7 @@ public class GlobalUtils {
     }
 
     public static void sendPrefixedComponent(CommandSender target, Component component) {
-        target.sendMessage(translateChars(String.format("%s &7>>&r ", PREFIX)).append(component));
+        target.sendMessage(translateCharsCached(String.format("%s &7>>&r ", PREFIX)).append(component));
     }
     public static void unpackResource(String resourceName, File file) {
         if (file.exists()) return;
@@ -180,32 +229,28 @@ public class GlobalUtils {
         return serializer.serialize(component);
     }
     public static CompletableFuture<Double> getTpsNearEntity(Entity entity) {
-        CompletableFuture<Double> future = new CompletableFuture<>();
-        entity.getScheduler().run(Main.getInstance(), (st) -> future.complete(getCurrentRegionTps()), () -> {});
-        return future;
+        return getRegionTps(entity.getLocation());
     }
+
+    /**
+     * @return The average tps of the region over the last 15 seconds, completed right away from the telemetry
+     * when the region has been sampled and on the region's thread otherwise
+     */
     public static CompletableFuture<Double> getRegionTps(Location location) {
+        RegionStats stats = Main.getInstance().getRegionTelemetry().getRegionStats(location);
+        if (stats.isKnown()) return CompletableFuture.completedFuture(stats.tps15s());
         CompletableFuture<Double> future = new CompletableFuture<>();
-        Bukkit.getRegionScheduler().run(Main.getInstance(),location, (st) -> future.complete(getCurrentRegionTps()));
+        Bukkit.getRegionScheduler().run(Main.getInstance(), location, (st) -> future.complete(getCurrentRegionTps()));
         return future;
     }
 
+    /**
+     * @return The average tps over the last 15 seconds of the region the current thread is ticking or -1
+     */
     public static double getCurrentRegionTps() {
-        try {
-            Object region = Class.forName("io.papermc.paper.threadedregions.TickRegionScheduler").getDeclaredMethod("getCurrentRegion").invoke(null);
-            if (region != null) {
-                Object tickData = region.getClass().getDeclaredMethod("getData").invoke(region);
-                Object regionShceduleHandle = tickData.getClass().getDeclaredMethod("getRegionSchedulingHandle").invoke(tickData);
-                Object tickReport = regionShceduleHandle.getClass().getMethod("getTickReport15s", long.class).invoke(regionShceduleHandle, System.nanoTime());
-                Object segmentedAvg = tickReport.getClass().getDeclaredMethod("tpsData").invoke(tickReport);
-                Object segAll = segmentedAvg.getClass().getDeclaredMethod("segmentAll").invoke(segmentedAvg);
-                return (double) segAll.getClass().getDeclaredMethod("average").invoke(segAll);
-            }
-        } catch (Throwable t) {
-            t.printStackTrace();
-        }
-        return -1;
+        return Main.getInstance().getRegionTelemetry().getCurrentRegionStats().tps15s();
     }
+
     public static String formatLocation(Location location) {
         return location.getWorld().getName() + " " + location.getBlockX() + ", " + location.getBlockY() + ", " + location.getBlockZ();
     }
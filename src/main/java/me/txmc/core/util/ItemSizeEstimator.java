@@ -0,0 +1,181 @@
+package me.txmc.core.util;
+
+import org.bukkit.Bukkit;
+import org.bukkit.inventory.ItemStack;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.logging.Level;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Measures how many bytes an item takes up once its NBT is serialized.
+ *
+ * <p>The item's tag is written into a stream that only counts the bytes it is given and gives up as soon
+ * as the budget is exceeded, so huge items cost no more than the budget to measure and nothing is
+ * retained. Nested containers are part of the tag so their contents are included.</p>
+ *
+ * <p>The server internals are looked up once by their types rather than their names so this works with
+ * both obfuscated and mojang mapped servers. If they can't be found, or fail once, the output of
+ * {@link ItemStack#serializeAsBytes()} is decompressed and counted instead, which is slower but measures
+ * the same uncompressed NBT.</p>
+ *
+ * @author 0x15d3v2
+ * @since 2026/10/16 3:30 PM
+ * This file was created as a part of 8b8tCore
+ */
+public class ItemSizeEstimator {
+    private static volatile Internals internals = resolve();
+    private static final ThreadLocal<CountingOutput> OUTPUT = ThreadLocal.withInitial(CountingOutput::new);
+
+    public static int sizeOf(ItemStack item) {
+        return sizeOf(item, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param item The item in question
+     * @param budget The size the caller cares about
+     * @return The serialized size of the item in bytes, or budget + 1 as soon as it is known to be larger than the budget
+     */
+    public static int sizeOf(ItemStack item, int budget) {
+        if (item == null || item.getType().isAir()) return 0;
+        // {id: "namespace:key", Count: 1b} and the end of the compound
+        int size = 1 + 2 + 2 + 2 + item.getType().getKey().toString().length() + 1 + 2 + 5 + 1 + 1;
+        if (!item.hasItemMeta()) return size;
+        Internals internals = ItemSizeEstimator.internals;
+        CountingOutput output = OUTPUT.get();
+        if (internals == null) return fallbackSize(item, output, budget);
+        output.reset(budget - size);
+
+        try {
+            Object handle = internals.craftItemStack.isInstance(item) ? (Object) internals.handle.invokeExact((Object) item) : (Object) internals.asNmsCopy.invokeExact(item);
+            Object tag = handle == null ? null : (Object) internals.tag.invokeExact(handle);
+            if (tag == null) return size;
+            internals.write.invokeExact(tag, (DataOutput) output.data);
+            // The "tag" entry of the item compound
+            return size + 1 + 2 + 3 + output.count;
+        } catch (BudgetExceeded e) {
+            return budget == Integer.MAX_VALUE ? budget : budget + 1;
+        } catch (Throwable t) {
+            disable(item, t);
+            return fallbackSize(item, output, budget);
+        }
+    }
+
+    /**
+     * Stops using the server internals after the first failure so the console isn't flooded with one warning per item
+     */
+    private static synchronized void disable(ItemStack item, Throwable t) {
+        if (internals == null) return;
+        internals = null;
+        GlobalUtils.log(Level.WARNING, "Failed to determine the size of %s, falling back to serializeAsBytes from now on. %s", item.getType(), t);
+    }
+
+    /**
+     * Counts the decompressed bytes of {@link ItemStack#serializeAsBytes()}, which is gzip compressed and would under report
+     * otherwise. The serialized compound already holds the id and count so nothing is added on top
+     */
+    private static int fallbackSize(ItemStack item, CountingOutput output, int budget) {
+        output.reset(budget);
+        byte[] buffer = output.buffer;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(item.serializeAsBytes()))) {
+            int read;
+            while ((read = in.read(buffer)) != -1) output.write(buffer, 0, read);
+            return output.count;
+        } catch (BudgetExceeded e) {
+            return budget == Integer.MAX_VALUE ? budget : budget + 1;
+        } catch (IOException e) {
+            return item.serializeAsBytes().length;
+        }
+    }
+
+    private static Internals resolve() {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            Class<?> craftItemStack = Class.forName(Bukkit.getServer().getClass().getPackageName() + ".inventory.CraftItemStack");
+
+            Field handleField = craftItemStack.getDeclaredField("handle");
+            handleField.setAccessible(true);
+            Class<?> nmsItemStack = handleField.getType();
+            MethodHandle handle = lookup.unreflectGetter(handleField).asType(MethodType.methodType(Object.class, Object.class));
+
+            Method asNmsCopyMethod = craftItemStack.getMethod("asNMSCopy", ItemStack.class);
+            MethodHandle asNmsCopy = lookup.unreflect(asNmsCopyMethod).asType(MethodType.methodType(Object.class, ItemStack.class));
+
+            // The only instance field of the item stack that holds a compound tag
+            Field tagField = null;
+            Method writeMethod = null;
+            for (Field field : nmsItemStack.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || !field.getType().getPackageName().equals("net.minecraft.nbt")) continue;
+                writeMethod = findWrite(field.getType());
+                if (writeMethod == null) continue;
+                tagField = field;
+                break;
+            }
+            if (tagField == null) throw new NoSuchFieldException("Could not find the tag field of " + nmsItemStack.getName());
+            tagField.setAccessible(true);
+            writeMethod.setAccessible(true);
+            MethodHandle tag = lookup.unreflectGetter(tagField).asType(MethodType.methodType(Object.class, Object.class));
+            MethodHandle write = lookup.unreflect(writeMethod).asType(MethodType.methodType(void.class, Object.class, DataOutput.class));
+            return new Internals(craftItemStack, handle, asNmsCopy, tag, write);
+        } catch (Throwable t) {
+            GlobalUtils.log(Level.WARNING, "Failed to setup reflection for item size estimation, falling back to serializeAsBytes. %s", t);
+            return null;
+        }
+    }
+
+    private static Method findWrite(Class<?> type) {
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Method method : c.getDeclaredMethods()) {
+                if (Modifier.isStatic(method.getModifiers()) || method.getReturnType() != void.class) continue;
+                Class<?>[] params = method.getParameterTypes();
+                if (params.length == 1 && params[0] == DataOutput.class) return method;
+            }
+        }
+        return null;
+    }
+
+    private record Internals(Class<?> craftItemStack, MethodHandle handle, MethodHandle asNmsCopy, MethodHandle tag, MethodHandle write) {
+    }
+
+    private static class CountingOutput extends OutputStream {
+        private final DataOutputStream data = new DataOutputStream(this);
+        private final byte[] buffer = new byte[8192];
+        private int count;
+        private int limit;
+
+        private void reset(int limit) {
+            count = 0;
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (++count > limit) throw BudgetExceeded.INSTANCE;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            count += len;
+            if (count > limit || count < 0) throw BudgetExceeded.INSTANCE;
+        }
+    }
+
+    private static class BudgetExceeded extends IOException {
+        private static final BudgetExceeded INSTANCE = new BudgetExceeded();
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
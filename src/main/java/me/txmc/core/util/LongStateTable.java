@@ -0,0 +1,110 @@
+package me.txmc.core.util;
+
+/**
+ * Maps primitive long keys to primitive long states without boxing either of them.
+ *
+ * <p>This is a linear probing table, a state of 0 marks an empty slot so callers have to make sure the
+ * states they store are never 0. It is not thread safe, callers either lock around it or confine it to a
+ * single region.</p>
+ *
+ * @author 0x15d3v2
+ * @since 2026/10/16 7:10 PM
+ * This file was created as a part of 8b8tCore
+ */
+public class LongStateTable {
+    private static final int MIN_CAPACITY = 16;
+    private long[] keys = new long[MIN_CAPACITY];
+    private long[] states = new long[MIN_CAPACITY];
+    private int size;
+
+    public static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * @return The state of the key or 0 if there is none
+     */
+    public long get(long key) {
+        return get(key, hash(key));
+    }
+
+    public long get(long key, int hash) {
+        int mask = keys.length - 1;
+        for (int i = hash & mask; states[i] != 0; i = (i + 1) & mask) {
+            if (keys[i] == key) return states[i];
+        }
+        return 0;
+    }
+
+    public void put(long key, long state) {
+        put(key, hash(key), state);
+    }
+
+    public void put(long key, int hash, long state) {
+        int mask = keys.length - 1;
+        int i = hash & mask;
+        for (; states[i] != 0; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                states[i] = state;
+                return;
+            }
+        }
+        keys[i] = key;
+        states[i] = state;
+        if (++size * 4 >= keys.length * 3) grow();
+    }
+
+    public long remove(long key) {
+        return remove(key, hash(key));
+    }
+
+    /**
+     * @return The state that was removed or 0
+     */
+    public long remove(long key, int hash) {
+        int mask = keys.length - 1;
+        int i = hash & mask;
+        while (states[i] != 0 && keys[i] != key) i = (i + 1) & mask;
+        long removed = states[i];
+        if (removed == 0) return 0;
+        size--;
+        // Shift the following entries back so no probe sequence is broken
+        for (int next = (i + 1) & mask; states[next] != 0; next = (next + 1) & mask) {
+            int home = hash(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - i) & mask)) {
+                keys[i] = keys[next];
+                states[i] = states[next];
+                i = next;
+            }
+        }
+        states[i] = 0;
+        return removed;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void forEach(Consumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (states[i] != 0) consumer.accept(keys[i], states[i]);
+        }
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        long[] oldStates = states;
+        keys = new long[oldKeys.length * 2];
+        states = new long[oldStates.length * 2];
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldStates[i] != 0) put(oldKeys[i], oldStates[i]);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Consumer {
+        void accept(long key, long state);
+    }
+}
@@ -0,0 +1,79 @@
+package me.txmc.core.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded least recently used cache that is safe to share between region threads.
+ *
+ * <p>The entries are split over several independently locked segments so threads
+ * ticking different regions rarely wait on each other. Eviction is per segment which
+ * makes the bound approximate but never exceeded.</p>
+ *
+ * @author 0x15d3v2
+ * @since 2026/10/16 11:20 AM
+ * This file was created as a part of 8b8tCore
+ */
+public class LruCache<K, V> {
+    private static final int SEGMENTS = 16;
+    private final Segment<K, V>[] segments;
+
+    @SuppressWarnings("unchecked")
+    public LruCache(int maxSize) {
+        int perSegment = Math.max(1, (maxSize + SEGMENTS - 1) / SEGMENTS);
+        segments = new Segment[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++) segments[i] = new Segment<>(perSegment);
+    }
+
+    public V get(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.get(key);
+        }
+    }
+
+    public void put(K key, V value) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            segment.put(key, value);
+        }
+    }
+
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        return segments[hash & (SEGMENTS - 1)];
+    }
+
+    private static class Segment<K, V> extends LinkedHashMap<K, V> {
+        private final int maxSize;
+
+        private Segment(int maxSize) {
+            super(16, 0.75F, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > maxSize;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package me.txmc.core.util;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Tag;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * A list of material rules from the config compiled into a set of materials.
+ *
+ * <p>Supported rules:</p>
+ * <ul>
+ *     <li><code>PLAYER_HEAD</code> or <code>minecraft:player_head</code> a single material</li>
+ *     <li><code>*SPAWN_EGG</code> a glob, <code>*</code> matches any amount of characters and <code>?</code> a single one</li>
+ *     <li><code>re:.*_SHULKER_BOX</code> a regular expression that has to match the whole material name</li>
+ *     <li><code>#minecraft:shulker_boxes</code> every material in an item or block tag</li>
+ * </ul>
+ *
+ * <p>Rule sets are immutable, holders swap in a newly compiled one when the config is reloaded so
+ * readers on other threads always see a complete set. Matching is case-insensitive.</p>
+ *
+ * @author 0x15d3v2
+ * @since 2026/10/16 6:30 PM
+ * This file was created as a part of 8b8tCore
+ */
+public class MaterialRuleSet {
+    public static final MaterialRuleSet EMPTY = new MaterialRuleSet(EnumSet.noneOf(Material.class), Collections.emptyMap());
+    private static final Material[] MATERIALS = Arrays.stream(Material.values()).filter(material -> !material.isLegacy()).toArray(Material[]::new);
+    private final EnumSet<Material> materials;
+    private final Map<String, List<Material>> expansions;
+
+    private MaterialRuleSet(EnumSet<Material> materials, Map<String, List<Material>> expansions) {
+        this.materials = materials;
+        this.expansions = expansions;
+    }
+
+    /**
+     * @param rules The rules as they appear in the config
+     * @param origin Where the rules come from, used in warnings
+     */
+    public static MaterialRuleSet compile(List<String> rules, String origin) {
+        EnumSet<Material> materials = EnumSet.noneOf(Material.class);
+        Map<String, List<Material>> expansions = new LinkedHashMap<>();
+        for (String rule : rules) {
+            if (rule == null || rule.isBlank()) continue;
+            rule = rule.trim();
+            List<Material> expanded;
+            try {
+                expanded = expand(rule);
+            } catch (IllegalArgumentException e) {
+                GlobalUtils.log(Level.WARNING, "Invalid rule %s in %s. %s", rule, origin, e.getMessage());
+                continue;
+            }
+            if (expanded.isEmpty()) GlobalUtils.log(Level.WARNING, "Rule %s in %s does not match any material", rule, origin);
+            materials.addAll(expanded);
+            expansions.put(rule, List.copyOf(expanded));
+        }
+        return new MaterialRuleSet(materials, Collections.unmodifiableMap(expansions));
+    }
+
+    private static List<Material> expand(String rule) {
+        if (rule.startsWith("#")) {
+            NamespacedKey key = NamespacedKey.fromString(rule.substring(1).toLowerCase(Locale.ROOT));
+            if (key == null) throw new IllegalArgumentException("Not a valid tag name");
+            EnumSet<Material> tagged = EnumSet.noneOf(Material.class);
+            Tag<Material> items = Bukkit.getTag(Tag.REGISTRY_ITEMS, key, Material.class);
+            if (items != null) tagged.addAll(items.getValues());
+            Tag<Material> blocks = Bukkit.getTag(Tag.REGISTRY_BLOCKS, key, Material.class);
+            if (blocks != null) tagged.addAll(blocks.getValues());
+            if (items == null && blocks == null) throw new IllegalArgumentException("Unknown tag");
+            return new ArrayList<>(tagged);
+        }
+        if (rule.regionMatches(true, 0, "re:", 0, 3)) {
+            try {
+                return matching(Pattern.compile(rule.substring(3), Pattern.CASE_INSENSITIVE));
+            } catch (PatternSyntaxException e) {
+                throw new IllegalArgumentException(e.getDescription());
+            }
+        }
+        if (rule.indexOf('*') >= 0 || rule.indexOf('?') >= 0) return matching(glob(rule));
+
+        Material material = Material.matchMaterial(rule);
+        if (material == null) throw new IllegalArgumentException("Unknown material");
+        return List.of(material);
+    }
+
+    private static Pattern glob(String rule) {
+        StringBuilder regex = new StringBuilder();
+        int literalStart = 0;
+        for (int i = 0; i < rule.length(); i++) {
+            char c = rule.charAt(i);
+            if (c != '*' && c != '?') continue;
+            if (i > literalStart) regex.append(Pattern.quote(rule.substring(literalStart, i)));
+            regex.append(c == '*' ? ".*" : ".");
+            literalStart = i + 1;
+        }
+        if (literalStart < rule.length()) regex.append(Pattern.quote(rule.substring(literalStart)));
+        return Pattern.compile(regex.toString(), Pattern.CASE_INSENSITIVE);
+    }
+
+    private static List<Material> matching(Pattern pattern) {
+        List<Material> matched = new ArrayList<>();
+        for (Material material : MATERIALS) {
+            if (pattern.matcher(material.name()).matches()) matched.add(material);
+        }
+        return matched;
+    }
+
+    public boolean contains(Material material) {
+        return materials.contains(material);
+    }
+
+    public boolean isEmpty() {
+        return materials.isEmpty();
+    }
+
+    public Set<Material> materials() {
+        return Collections.unmodifiableSet(materials);
+    }
+
+    /**
+     * @return One line per rule with the materials it expanded to
+     */
+    public List<String> describe() {
+        List<String> lines = new ArrayList<>(expansions.size() + 1);
+        expansions.forEach((rule, expanded) -> lines.add(String.format("&a%s&r&3 -> &a%d&r&3: &r%s", rule, expanded.size(),
+                String.join(", ", expanded.stream().map(Material::name).toList()))));
+        lines.add(String.format("&3Total: &a%d&r&3 materials", materials.size()));
+        return lines;
+    }
+}
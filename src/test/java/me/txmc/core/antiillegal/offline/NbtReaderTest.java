@@ -0,0 +1,88 @@
+package me.txmc.core.antiillegal.offline;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static me.txmc.core.antiillegal.offline.NbtReader.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Reads the player data fixtures in {@code src/test/resources/offline/playerdata}.
+ * <ul>
+ *     <li>...0001.dat is a clean player, a sword, a stack of cobblestone and a shulker with dirt in it</li>
+ *     <li>...0002.dat has one item for every offline rule, see {@link PlayerDataScannerTest}</li>
+ *     <li>...0003.dat is a truncated gzip stream</li>
+ *     <li>...0004.dat has a writable and a written book, each with 100 pages of 1000 ASCII characters</li>
+ * </ul>
+ *
+ * @author 0x15d3v2
+ * @since 2026/10/16 10:00 PM
+ * This file was created as a part of 8b8tCore
+ */
+class NbtReaderTest {
+    static final String CLEAN = "00000000-0000-0000-0000-000000000001";
+    static final String ILLEGAL = "00000000-0000-0000-0000-000000000002";
+    static final String CORRUPT = "00000000-0000-0000-0000-000000000003";
+    static final String FULL_BOOKS = "00000000-0000-0000-0000-000000000004";
+    private static final byte[] INVENTORY = key("Inventory");
+    private static final byte[] ID = key("id");
+    private static final byte[] COUNT = key("Count");
+
+    static Path fixture(String owner) throws Exception {
+        return Path.of(NbtReaderTest.class.getResource("/offline/playerdata/" + owner + ".dat").toURI());
+    }
+
+    private static NbtReader open(String owner) throws Exception {
+        return new NbtReader(Compression.inflate(Compression.readFile(fixture(owner)), Compression.GZIP));
+    }
+
+    @Test
+    void skipsEveryTopLevelTag() throws Exception {
+        NbtReader reader = open(CLEAN);
+        assertEquals(TAG_COMPOUND, reader.root());
+        List<String> names = new ArrayList<>();
+        byte type;
+        while ((type = reader.next()) != TAG_END) {
+            names.add(reader.name());
+            reader.skip(type);
+        }
+        assertEquals(List.of("DataVersion", "Inventory", "EnderItems"), names);
+        assertEquals(reader.buffer().limit(), reader.position());
+    }
+
+    @Test
+    void readsItemIdsAndCounts() throws Exception {
+        NbtReader reader = open(CLEAN);
+        reader.root();
+        List<String> ids = new ArrayList<>();
+        List<Long> counts = new ArrayList<>();
+        byte type;
+        while ((type = reader.next()) != TAG_END) {
+            if (type != TAG_LIST || !reader.nameIs(INVENTORY)) {
+                reader.skip(type);
+                continue;
+            }
+            int items = reader.list();
+            assertEquals(TAG_COMPOUND, reader.listType());
+            for (int i = 0; i < items; i++) {
+                while ((type = reader.next()) != TAG_END) {
+                    if (type == TAG_STRING && reader.nameIs(ID)) ids.add(reader.readString());
+                    else if (reader.nameIs(COUNT)) counts.add(reader.readNumber(type));
+                    else reader.skip(type);
+                }
+            }
+        }
+        assertEquals(List.of("minecraft:diamond_sword", "minecraft:cobblestone", "minecraft:shulker_box"), ids);
+        assertEquals(List.of(1L, 64L, 1L), counts);
+    }
+
+    @Test
+    void rejectsTruncatedData() {
+        assertThrows(IOException.class, () -> Compression.inflate(Compression.readFile(fixture(CORRUPT)), Compression.GZIP));
+    }
+}
@@ -0,0 +1,90 @@
+package me.txmc.core.antiillegal.offline;
+
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static me.txmc.core.antiillegal.offline.NbtReaderTest.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the offline rules over the player data fixtures, see {@link NbtReaderTest} for what each file holds.
+ *
+ * @author 0x15d3v2
+ * @since 2026/10/16 10:05 PM
+ * This file was created as a part of 8b8tCore
+ */
+class PlayerDataScannerTest {
+
+    private static PlayerDataScanner scanner(List<String> disabledChecks) {
+        YamlConfiguration config = new YamlConfiguration();
+        config.set("IllegalItems", List.of("BEDROCK"));
+        config.set("DisabledChecks", disabledChecks);
+        return new PlayerDataScanner(new OfflineItemRules(config, enchantment -> 5), 1);
+    }
+
+    private static Set<String> describe(List<Finding> findings) {
+        return findings.stream().map(finding -> finding.location() + ' ' + finding.reason()).collect(Collectors.toSet());
+    }
+
+    @Test
+    void cleanPlayerHasNoFindings() throws Exception {
+        assertEquals(List.of(), scanner(List.of()).scanFile(fixture(CLEAN)));
+    }
+
+    @Test
+    void reportsEveryRuleUnderItsCheckName() throws Exception {
+        List<Finding> findings = scanner(List.of()).scanFile(fixture(ILLEGAL));
+        assertEquals(Set.of(
+                "Inventory[0] IllegalItemCheck",
+                "Inventory[1] OverStackCheck",
+                "Inventory[2] DurabilityCheck",
+                "Inventory[3] EnchantCheck",
+                "Inventory[4] PotionCheck",
+                "Inventory[5] NameCheck",
+                "Inventory[6]/Items[3] IllegalItemCheck",
+                "EnderItems[0] LoreCheck"
+        ), describe(findings));
+        assertTrue(findings.stream().allMatch(finding -> finding.owner().equals(ILLEGAL)));
+    }
+
+    @Test
+    void skipsDisabledChecks() throws Exception {
+        List<Finding> findings = scanner(List.of("IllegalItemCheck", "LoreCheck")).scanFile(fixture(ILLEGAL));
+        assertEquals(5, findings.size());
+        assertTrue(findings.stream().noneMatch(finding -> finding.reason().equals("IllegalItemCheck") || finding.reason().equals("LoreCheck")));
+    }
+
+    @Test
+    void fullAsciiBooksAreLegal() throws Exception {
+        assertEquals(List.of(), scanner(List.of()).scanFile(fixture(FULL_BOOKS)));
+    }
+
+    @Test
+    void appliesConfiguredBookTotal() throws Exception {
+        YamlConfiguration config = new YamlConfiguration();
+        config.set("Books.MaxBookBytes", 65536);
+        PlayerDataScanner scanner = new PlayerDataScanner(new OfflineItemRules(config, enchantment -> 5), 1);
+        assertEquals(Set.of("Inventory[0] BookCheck", "Inventory[1] BookCheck"), describe(scanner.scanFile(fixture(FULL_BOOKS))));
+    }
+
+    @Test
+    void reportsUnreadableFiles() throws Exception {
+        List<Finding> findings = scanner(List.of()).scanFile(fixture(CORRUPT));
+        assertEquals(1, findings.size());
+        assertTrue(findings.get(0).reason().startsWith("Unreadable"));
+    }
+
+    @Test
+    void scansDirectorySkippingGivenPlayers() throws Exception {
+        Path directory = fixture(CLEAN).getParent();
+        PlayerDataScanner.Result result = scanner(List.of()).scan(directory, Set.of(CORRUPT));
+        assertEquals(3, result.files());
+        assertEquals(8, result.findings().size());
+    }
+}
@@ -0,0 +1,59 @@
+package me.txmc.core.chat;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs some of the shipped blocked phrases against the messages they are meant to catch and against ordinary
+ * messages that only share their letters.
+ *
+ * @author 0x15d3v2
+ * @since 2026/10/16 11:55 PM
+ * This file was created as a part of 8b8tCore
+ */
+class BlockedPhraseFilterTest {
+    private static final BlockedPhraseFilter FILTER = BlockedPhraseFilter.compile(List.of(
+            ".at", ".org", "89,35", "3b3t,shock,gg", "snow\u0430narchy,\u043Erg", "snowanarchy"));
+
+    private static final String[] BLOCKED = {
+            "go to example.at",
+            "SNOWANARCHY.ORG",
+            "join 89,35,49,34:19175",
+            "3b3t,shock,gg",
+            "snowanarchy,org",
+            "\uFF33\uFF4E\uFF4F\uFF57\uFF21\uFF4E\uFF41\uFF52\uFF43\uFF48\uFF59",
+            "snow\u200Banarchy",
+            "example\uFF0Eorg",
+    };
+
+    private static final String[] ALLOWED = {
+            "ok,at least",
+            "no,attack",
+            "so,organised",
+            "it costs 89.35",
+            "3b3t shock gg",
+            "snow anarchy",
+    };
+
+    @Test
+    void blocksPhrases() {
+        List<String> missed = new ArrayList<>();
+        for (String message : BLOCKED) {
+            if (!FILTER.matches(message)) missed.add(message);
+        }
+        assertEquals(List.of(), missed);
+    }
+
+    @Test
+    void allowsOrdinaryMessages() {
+        List<String> flagged = new ArrayList<>();
+        for (String message : ALLOWED) {
+            if (FILTER.matches(message)) flagged.add(message);
+        }
+        assertEquals(List.of(), flagged);
+    }
+}
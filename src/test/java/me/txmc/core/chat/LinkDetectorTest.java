@@ -0,0 +1,107 @@
+package me.txmc.core.chat;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the detector against messages that were advertised in chat and against ordinary messages that look a bit
+ * like an address, using the same TLD list the plugin ships with.
+ *
+ * @author 0x15d3v2
+ * @since 2026/10/16 11:50 PM
+ * This file was created as a part of 8b8tCore
+ */
+class LinkDetectorTest {
+    private static final String[] LINKS = {
+            "join snowanarchy.org now",
+            "SNOWANARCHY.ORG",
+            "snowanarchy dot org",
+            "snowanarchy d0t org",
+            "snowanarchy (dot) org",
+            "snowanarchy [.] org",
+            "snowanarchy\u3002org",
+            "\uFF53\uFF4E\uFF4F\uFF57\uFF41\uFF4E\uFF41\uFF52\uFF43\uFF48\uFF59\uFF0E\uFF4F\uFF52\uFF47",
+            "snow\u200Banarchy.o\u200Brg",
+            "snowanarchy.\u200Borg",
+            "snowanarchy ( . ) org",
+            "DeathAnarchy.nether-zone.com",
+            "89.35.49.34",
+            "Join 89,35,49,34:19175 Semi-Anarchy Bedrock",
+            "play.example.net:25565",
+            "2001:0db8:85a3:0000:0000:8a2e:0370:7334",
+            "2001:db8::8a2e:370:7334",
+            "discord.gg/abc",
+            "discord,gg/ez",
+            "gg/9aJSETCQTr",
+            "invite/Nar6nCnS8T",
+    };
+
+    private static final String[] NOT_LINKS = {
+            "gg/ez",
+            "gg/wp",
+            "gg ez",
+            "1,2,3,4",
+            "5,6,7,8 who do we appreciate",
+            "i got 1,000,000 coins",
+            "yes,it works",
+            "meet at 12:30:45",
+            "ratio 10:1",
+            "version 1.20.4",
+            "3/4 of the way there",
+            "wait...what",
+            "hello world",
+            "discord",
+    };
+
+    private static final String[] NO_CANDIDATES = {
+            "hi, how are you.",
+            "gg wp: nice fight",
+            "wait... what?",
+            "100%, no doubt",
+            "ok :)",
+    };
+
+    private static LinkDetector detector() throws Exception {
+        List<String> tlds = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(LinkDetectorTest.class.getResourceAsStream("/tlds.txt"), StandardCharsets.UTF_8))) {
+            reader.lines().filter(line -> !line.startsWith("#")).forEach(line -> tlds.add(line.toLowerCase()));
+        }
+        return LinkDetector.compile(tlds);
+    }
+
+    @Test
+    void detectsLinks() throws Exception {
+        LinkDetector detector = detector();
+        List<String> missed = new ArrayList<>();
+        for (String message : LINKS) {
+            if (!detector.containsLink(message)) missed.add(message);
+        }
+        assertEquals(List.of(), missed);
+    }
+
+    @Test
+    void letsOrdinaryMessagesThrough() throws Exception {
+        LinkDetector detector = detector();
+        List<String> flagged = new ArrayList<>();
+        for (String message : NOT_LINKS) {
+            if (detector.containsLink(message)) flagged.add(message);
+        }
+        assertEquals(List.of(), flagged);
+    }
+
+    @Test
+    void rejectsPunctuationWithoutCopying() {
+        List<String> candidates = new ArrayList<>();
+        for (String message : NO_CANDIDATES) {
+            if (LinkDetector.hasCandidate(message)) candidates.add(message);
+        }
+        assertEquals(List.of(), candidates);
+    }
+}